@@ -0,0 +1,44 @@
+package com.entain.sporteventsapi.benchmark;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.Event;
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class EventFixtures {
+    private static final LocalDateTime START = LocalDateTime.of(2025, 6, 1, 20, 0);
+
+    private EventFixtures() {
+    }
+
+    static List<Event> entities(int size) {
+        List<Event> events = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Event event = new Event();
+            event.setId((long) i + 1);
+            event.setName("Champions League match " + i);
+            event.setSport(Sport.values()[i % Sport.values().length]);
+            event.setEventStatus(EventStatus.values()[i % EventStatus.values().length]);
+            event.setStartTime(START.plusMinutes(i));
+            event.setVersion(0L);
+            events.add(event);
+        }
+        return events;
+    }
+
+    static List<EventDTO> dtos(int size) {
+        return entities(size).stream()
+                .map(EventDTO::new)
+                .toList();
+    }
+
+    static List<EventDTO> newEvents(int size) {
+        return entities(size).stream()
+                .map(event -> new EventDTO(event.getName(), event.getSport().name(), EventStatus.INACTIVE.name(), event.getStartTime()))
+                .toList();
+    }
+}
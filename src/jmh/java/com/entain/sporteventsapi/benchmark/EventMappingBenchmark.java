@@ -0,0 +1,40 @@
+package com.entain.sporteventsapi.benchmark;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.Event;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventMappingBenchmark {
+    @Param({"1", "100", "10000"})
+    public int size;
+
+    private List<Event> entities;
+    private List<EventDTO> dtos;
+
+    @Setup
+    public void setUp() {
+        entities = EventFixtures.entities(size);
+        dtos = EventFixtures.dtos(size);
+    }
+
+    @Benchmark
+    public void entityToDto(Blackhole blackhole) {
+        for (Event event : entities) {
+            blackhole.consume(new EventDTO(event));
+        }
+    }
+
+    @Benchmark
+    public void dtoToEntity(Blackhole blackhole) {
+        for (EventDTO event : dtos) {
+            blackhole.consume(event.convertToEntity());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.entain.sporteventsapi.benchmark;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.Sport;
+import com.entain.sporteventsapi.service.EventNameIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Type-ahead queries against the in-memory name index. Use {@code -prof gc} or the sample mode
+ * ({@code -bm sample}) to see the latency distribution rather than the mean.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventNameSearchBenchmark {
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private EventNameIndex index;
+
+    @Setup(Level.Trial)
+    public void buildIndex() {
+        index = new EventNameIndex(null);
+        EventFixtures.dtos(size).forEach(index::index);
+    }
+
+    @Benchmark
+    public List<Long> selectiveQuery() {
+        return index.search("match 4242", null, null, 10);
+    }
+
+    @Benchmark
+    public List<Long> commonPrefixQuery() {
+        return index.search("champions lea", null, null, 10);
+    }
+
+    @Benchmark
+    public List<Long> filteredQuery() {
+        return index.search("match 99", null, Sport.BOXING, 10);
+    }
+
+    @Benchmark
+    public List<Long> missingQuery() {
+        return index.search("world cup", null, null, 10);
+    }
+
+    @Benchmark
+    public void indexNewEvent(IndexState state) {
+        index.index(state.next());
+    }
+
+    @State(Scope.Thread)
+    public static class IndexState {
+        private long nextId = Long.MAX_VALUE / 2;
+
+        EventDTO next() {
+            return new EventDTO(nextId++, "Champions League match " + nextId, "FOOTBALL", "INACTIVE", null, 0L);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.entain.sporteventsapi.benchmark;
+
+import com.entain.sporteventsapi.SporteventsapiApplication;
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.repository.EventRepository;
+import com.entain.sporteventsapi.service.EventService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads the same rows as managed entities mapped to DTOs and as DTOs selected by a constructor expression.
+ * Run with the gc profiler (the default in build.gradle) to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventProjectionBenchmark {
+    private static final int SEED_BATCH = 10_000;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private ConfigurableApplicationContext context;
+    private EventRepository repository;
+    private long firstId;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(SporteventsapiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("events.scheduler.enabled=false", "logging.level.root=WARN")
+                .run();
+        repository = context.getBean(EventRepository.class);
+        EventService eventService = context.getBean(EventService.class);
+        List<EventDTO> events = EventFixtures.newEvents(size);
+        for (int from = 0; from < events.size(); from += SEED_BATCH) {
+            eventService.createEvents(events.subList(from, Math.min(from + SEED_BATCH, events.size())));
+        }
+        firstId = repository.findAllDtos().get(0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<EventDTO> listViaEntities() {
+        return repository.findAll().stream()
+                .map(EventDTO::new)
+                .toList();
+    }
+
+    @Benchmark
+    public List<EventDTO> listViaProjection() {
+        return repository.findAllDtos();
+    }
+
+    @Benchmark
+    public EventDTO lookupViaEntity() {
+        return repository.findById(firstId)
+                .map(EventDTO::new)
+                .orElseThrow();
+    }
+
+    @Benchmark
+    public EventDTO lookupViaProjection() {
+        return repository.findDtoById(firstId).orElseThrow();
+    }
+}
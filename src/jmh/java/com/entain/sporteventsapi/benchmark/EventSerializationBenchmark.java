@@ -0,0 +1,61 @@
+package com.entain.sporteventsapi.benchmark;
+
+import com.entain.sporteventsapi.config.EventBinaryModule;
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventSerializationBenchmark {
+    @Param({"1", "100", "10000"})
+    public int size;
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private List<EventDTO> events;
+    private byte[] payload;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        // Same defaults Spring Boot applies to the ObjectMapper that serves the controller
+        ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper objectMapper = switch (format) {
+            case "cbor" -> EventBinaryModule.binaryMapper(jsonMapper, new CBORFactory());
+            case "smile" -> EventBinaryModule.binaryMapper(jsonMapper, new SmileFactory());
+            default -> jsonMapper;
+        };
+        writer = objectMapper.writerFor(new TypeReference<List<EventDTO>>() {
+        });
+        reader = objectMapper.readerFor(new TypeReference<List<EventDTO>>() {
+        });
+        events = EventFixtures.dtos(size);
+        payload = writer.writeValueAsBytes(events);
+        System.out.printf("%n%s payload for %d events: %d bytes%n", format, size, payload.length);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public List<EventDTO> deserializeList() throws IOException {
+        return reader.readValue(payload);
+    }
+}
@@ -0,0 +1,69 @@
+package com.entain.sporteventsapi.benchmark;
+
+import com.entain.sporteventsapi.SporteventsapiApplication;
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.dto.EventPageDTO;
+import com.entain.sporteventsapi.service.EventListingCache;
+import com.entain.sporteventsapi.service.EventService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventServiceBenchmark {
+    private static final int SEED_BATCH = 10_000;
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private ConfigurableApplicationContext context;
+    private EventService eventService;
+    private EventListingCache listingCache;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(SporteventsapiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("events.scheduler.enabled=false", "logging.level.root=WARN")
+                .run();
+        eventService = context.getBean(EventService.class);
+        listingCache = context.getBean(EventListingCache.class);
+        List<EventDTO> events = EventFixtures.newEvents(size);
+        for (int from = 0; from < events.size(); from += SEED_BATCH) {
+            eventService.createEvents(events.subList(from, Math.min(from + SEED_BATCH, events.size())));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<EventDTO> getEventsFromDatabase() {
+        listingCache.invalidateAll();
+        return eventService.getEvents(null, null);
+    }
+
+    @Benchmark
+    public List<EventDTO> getEventsFromCache() {
+        return eventService.getEvents(null, null);
+    }
+
+    @Benchmark
+    public List<EventDTO> getEventsByStatusAndSportFromDatabase() {
+        listingCache.invalidateAll();
+        return eventService.getEvents("INACTIVE", "FOOTBALL");
+    }
+
+    @Benchmark
+    public EventPageDTO getFirstPage() {
+        return eventService.getEventsPage(null, null, null, 100);
+    }
+}
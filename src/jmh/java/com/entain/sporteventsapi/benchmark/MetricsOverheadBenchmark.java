@@ -0,0 +1,65 @@
+package com.entain.sporteventsapi.benchmark;
+
+import com.entain.sporteventsapi.SporteventsapiApplication;
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.service.EventService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cached listing call through the instrumented service proxy with the same call on the
+ * bare service instance, and the cost of a single histogram-backed timer update on its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetricsOverheadBenchmark {
+    private ConfigurableApplicationContext context;
+    private EventService instrumented;
+    private EventService uninstrumented;
+    private Timer histogramTimer;
+    private long sample;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(SporteventsapiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("events.scheduler.enabled=false", "logging.level.root=WARN")
+                .run();
+        instrumented = context.getBean(EventService.class);
+        uninstrumented = (EventService) AopProxyUtils.getSingletonTarget(instrumented);
+        instrumented.createEvents(EventFixtures.newEvents(100));
+        instrumented.getEvents("INACTIVE", "FOOTBALL");
+        histogramTimer = Timer.builder("benchmark.timer")
+                .publishPercentileHistogram()
+                .register(context.getBean(MeterRegistry.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<EventDTO> cachedListingInstrumented() {
+        return instrumented.getEvents("INACTIVE", "FOOTBALL");
+    }
+
+    @Benchmark
+    public List<EventDTO> cachedListingUninstrumented() {
+        return uninstrumented.getEvents("INACTIVE", "FOOTBALL");
+    }
+
+    @Benchmark
+    public void timerRecord() {
+        histogramTimer.record(++sample & 0xFFFF, TimeUnit.MICROSECONDS);
+    }
+}
@@ -0,0 +1,87 @@
+package com.entain.sporteventsapi.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A concurrency limit that follows latency, the way a congestion window follows round-trip time. Every
+ * {@link #WINDOW} completed requests it compares their average latency with the best window seen lately:
+ * while they stay within {@code tolerance} of it the limit grows by its square root, beyond that it shrinks
+ * in proportion, but never below half per step. The baseline is re-measured every
+ * {@link #BASELINE_RESET_WINDOWS} windows so a permanently slower backend does not pin the limit at its minimum.
+ */
+final class AdaptiveConcurrencyLimit {
+    static final int WINDOW = 50;
+    private static final int BASELINE_RESET_WINDOWS = 100;
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // Guarded by this
+    private double estimate;
+    private double baselineNanos = Double.MAX_VALUE;
+    private int windowsSinceReset;
+    private long windowNanos;
+    private int windowSamples;
+    private int windowPeakInFlight;
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.estimate = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimate;
+    }
+
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void release(long latencyNanos) {
+        sample(latencyNanos, inFlight.getAndDecrement());
+    }
+
+    int limit() {
+        return limit;
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void sample(long latencyNanos, int inFlightAtFinish) {
+        windowNanos += latencyNanos;
+        windowPeakInFlight = Math.max(windowPeakInFlight, inFlightAtFinish);
+        if (++windowSamples < WINDOW) {
+            return;
+        }
+        double averageNanos = (double) windowNanos / windowSamples;
+        if (++windowsSinceReset >= BASELINE_RESET_WINDOWS) {
+            baselineNanos = averageNanos;
+            windowsSinceReset = 0;
+        } else {
+            baselineNanos = Math.min(baselineNanos, averageNanos);
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * baselineNanos / averageNanos));
+        // Only probe upwards when at least half the limit was in use, otherwise idle periods would inflate it
+        double headroom = windowPeakInFlight * 2 >= limit ? Math.sqrt(estimate) : 0;
+        estimate = (1 - SMOOTHING) * estimate + SMOOTHING * (estimate * gradient + headroom);
+        estimate = Math.max(minLimit, Math.min(maxLimit, estimate));
+        limit = (int) estimate;
+
+        windowNanos = 0;
+        windowSamples = 0;
+        windowPeakInFlight = 0;
+    }
+}
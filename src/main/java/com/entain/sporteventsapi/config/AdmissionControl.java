@@ -0,0 +1,147 @@
+package com.entain.sporteventsapi.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admits requests to the events API against two adaptive concurrency limits, one for reads and one for writes,
+ * so a burst of listings cannot take the threads and connections status updates need. Each class can also rate
+ * limit every client with a token bucket. Over its bucket a client gets 429, over the limit 503, both with
+ * Retry-After; nothing waits in a queue. Change feeds, exports and imports run for a long time and would only
+ * skew the latency signal, so they are not admitted through here.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "events.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControl extends OncePerRequestFilter {
+    private static final String PATH = "/api/events";
+    private static final Set<String> LONG_RUNNING = Set.of(PATH + "/stream", PATH + "/export", PATH + "/import");
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private final Partition reads;
+    private final Partition writes;
+    private final long retryAfterSeconds;
+
+    public AdmissionControl(Environment environment, MeterRegistry meterRegistry) {
+        double tolerance = environment.getProperty("events.admission.latency-tolerance", Double.class, 2.0);
+        this.retryAfterSeconds = environment.getProperty("events.admission.retry-after-seconds", Long.class, 1L);
+        this.reads = new Partition("read", environment, 20, 200, tolerance, meterRegistry);
+        this.writes = new Partition("write", environment, 10, 100, tolerance, meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !path.startsWith(PATH) || LONG_RUNNING.contains(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String method = request.getMethod();
+        Partition partition = HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) ? reads : writes;
+
+        String client = request.getHeader(ReadYourWrites.CLIENT_HEADER);
+        long waitNanos = partition.takeToken(client != null ? client : request.getRemoteAddr());
+        if (waitNanos > 0) {
+            partition.rateLimited.increment();
+            long retryAfter = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, retryAfter, "Rate limit exceeded, retry later");
+            return;
+        }
+        if (!partition.limit.tryAcquire()) {
+            partition.shed.increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, retryAfterSeconds,
+                    "Too many concurrent %s requests, retry later".formatted(partition.name));
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            partition.limit.release(System.nanoTime() - start);
+        }
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write(message);
+    }
+
+    private static final class Partition {
+        private final String name;
+        private final AdaptiveConcurrencyLimit limit;
+        private final double clientRate;
+        private final int clientBurst;
+        private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final Counter rateLimited;
+        private final Counter shed;
+
+        Partition(String name, Environment environment, int defaultInitialLimit, int defaultMaxLimit,
+                  double tolerance, MeterRegistry meterRegistry) {
+            String prefix = "events.admission." + name + ".";
+            this.name = name;
+            this.limit = new AdaptiveConcurrencyLimit(
+                    environment.getProperty(prefix + "initial-limit", Integer.class, defaultInitialLimit),
+                    environment.getProperty(prefix + "min-limit", Integer.class, 1),
+                    environment.getProperty(prefix + "max-limit", Integer.class, defaultMaxLimit),
+                    tolerance);
+            this.clientRate = environment.getProperty(prefix + "client-rate", Double.class, 0.0);
+            this.clientBurst = environment.getProperty(prefix + "client-burst", Integer.class, 1);
+
+            Gauge.builder("events.admission.limit", limit, AdaptiveConcurrencyLimit::limit)
+                    .description("Current concurrency limit")
+                    .tag("class", name)
+                    .register(meterRegistry);
+            Gauge.builder("events.admission.in-flight", limit, AdaptiveConcurrencyLimit::inFlight)
+                    .description("Requests currently admitted")
+                    .tag("class", name)
+                    .register(meterRegistry);
+            this.rateLimited = rejected(meterRegistry, "rate");
+            this.shed = rejected(meterRegistry, "capacity");
+        }
+
+        // A client rate of 0 turns the buckets off
+        long takeToken(String client) {
+            if (clientRate <= 0) {
+                return 0;
+            }
+            long now = System.nanoTime();
+            if (buckets.size() > PRUNE_THRESHOLD) {
+                buckets.values().removeIf(bucket -> bucket.isFull(now));
+            }
+            return buckets.computeIfAbsent(client, key -> new TokenBucket(clientRate, clientBurst, now)).tryTake(now);
+        }
+
+        private Counter rejected(MeterRegistry meterRegistry, String reason) {
+            return Counter.builder("events.admission.rejected")
+                    .description("Requests turned away by admission control")
+                    .tag("class", name)
+                    .tag("reason", reason)
+                    .register(meterRegistry);
+        }
+    }
+}
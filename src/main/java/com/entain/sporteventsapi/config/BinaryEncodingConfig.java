@@ -0,0 +1,34 @@
+package com.entain.sporteventsapi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Serves CBOR ({@code application/cbor}) and Smile ({@code application/x-jackson-smile}) next to JSON.
+ * The converters go last, so JSON stays the answer to a missing or wildcard {@code Accept} header.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class BinaryEncodingConfig implements WebMvcConfigurer {
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Spring registers plain Smile/CBOR converters when the libraries are present; replace them with ours
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                EventBinaryModule.binaryMapper(objectMapper, new CBORFactory())));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                EventBinaryModule.binaryMapper(objectMapper, new SmileFactory())));
+    }
+}
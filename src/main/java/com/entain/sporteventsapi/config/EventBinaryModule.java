@@ -0,0 +1,122 @@
+package com.entain.sporteventsapi.config;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Encodes {@link EventDTO} for the binary formats: sport and status as enum ordinals, start time as
+ * microseconds since the epoch in UTC (the precision of the column), and null fields left out.
+ * Field names match the JSON form, so every DTO that nests events is covered as well.
+ */
+public class EventBinaryModule extends SimpleModule {
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    public EventBinaryModule() {
+        super("EventBinaryModule");
+        addSerializer(EventDTO.class, new EventSerializer());
+        addDeserializer(EventDTO.class, new EventDeserializer());
+    }
+
+    // Copies the JSON mapper so the binary formats keep every other setting Spring Boot applied
+    public static ObjectMapper binaryMapper(ObjectMapper jsonMapper, JsonFactory factory) {
+        return jsonMapper.copyWith(factory).registerModule(new EventBinaryModule());
+    }
+
+    private static final class EventSerializer extends StdSerializer<EventDTO> {
+        EventSerializer() {
+            super(EventDTO.class);
+        }
+
+        @Override
+        public void serialize(EventDTO event, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeStartObject(event);
+            if (event.getId() != null) {
+                generator.writeNumberField("id", event.getId());
+            }
+            if (event.getName() != null) {
+                generator.writeStringField("name", event.getName());
+            }
+            if (event.getSport() != null) {
+                generator.writeNumberField("sport", Sport.valueOf(event.getSport()).ordinal());
+            }
+            if (event.getEventStatus() != null) {
+                generator.writeNumberField("status", EventStatus.valueOf(event.getEventStatus()).ordinal());
+            }
+            if (event.getStartTime() != null) {
+                LocalDateTime startTime = event.getStartTime();
+                generator.writeNumberField("startTime",
+                        startTime.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + startTime.getNano() / 1_000);
+            }
+            if (event.getVersion() != null) {
+                generator.writeNumberField("version", event.getVersion());
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    private static final class EventDeserializer extends StdDeserializer<EventDTO> {
+        EventDeserializer() {
+            super(EventDTO.class);
+        }
+
+        @Override
+        public EventDTO deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            Long id = null;
+            String name = null;
+            String sport = null;
+            String status = null;
+            LocalDateTime startTime = null;
+            Long version = null;
+            JsonToken token = parser.currentToken() == JsonToken.START_OBJECT ? parser.nextToken() : parser.currentToken();
+            for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+                String field = parser.currentName();
+                if (parser.nextToken() == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (field) {
+                    case "id" -> id = parser.getLongValue();
+                    case "name" -> name = parser.getText();
+                    case "sport" -> sport = enumName(Sport.values(), parser);
+                    case "status" -> status = enumName(EventStatus.values(), parser);
+                    case "startTime" -> {
+                        long micros = parser.getLongValue();
+                        startTime = LocalDateTime.ofEpochSecond(Math.floorDiv(micros, MICROS_PER_SECOND),
+                                (int) Math.floorMod(micros, MICROS_PER_SECOND) * 1_000, ZoneOffset.UTC);
+                    }
+                    case "version" -> version = parser.getLongValue();
+                    default -> parser.skipChildren();
+                }
+            }
+            return new EventDTO(id, name, sport, status, startTime, version);
+        }
+
+        // Names are accepted too, so clients can send either form
+        private static String enumName(Enum<?>[] values, JsonParser parser) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_STRING) {
+                return parser.getText();
+            }
+            int ordinal = parser.getIntValue();
+            if (ordinal < 0 || ordinal >= values.length) {
+                throw InvalidFormatException.from(parser, "Unknown %s ordinal %d".formatted(
+                        values.getClass().getComponentType().getSimpleName(), ordinal), ordinal, values.getClass().getComponentType());
+            }
+            return values[ordinal].name();
+        }
+    }
+}
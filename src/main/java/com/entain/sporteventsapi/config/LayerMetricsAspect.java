@@ -0,0 +1,87 @@
+package com.entain.sporteventsapi.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public {@code EventService} method and every {@code EventRepository} finder, and records
+ * how many rows each finder returned. Meters are resolved once per method, so the per-call cost is
+ * two clock reads and a histogram update.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class LayerMetricsAspect {
+    private final MeterRegistry registry;
+    private final Map<Method, Timer> serviceTimers = new ConcurrentHashMap<>();
+    private final Map<Method, RepositoryMeters> repositoryMeters = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.entain.sporteventsapi.service.EventService.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Timer timer = serviceTimers.computeIfAbsent(method, key -> Timer.builder("events.service")
+                .description("EventService method latency")
+                .tag("method", key.getName())
+                .register(registry));
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Around("execution(* com.entain.sporteventsapi.repository.EventRepository+.find*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        RepositoryMeters meters = repositoryMeters.computeIfAbsent(method, this::repositoryMeters);
+        long start = System.nanoTime();
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } finally {
+            meters.timer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            meters.rows().record(rowCount(result));
+        }
+    }
+
+    private RepositoryMeters repositoryMeters(Method method) {
+        return new RepositoryMeters(
+                Timer.builder("events.repository")
+                        .description("EventRepository query latency")
+                        .tag("method", method.getName())
+                        .register(registry),
+                DistributionSummary.builder("events.repository.rows")
+                        .description("Rows returned per EventRepository query")
+                        .tag("method", method.getName())
+                        .register(registry));
+    }
+
+    private static long rowCount(Object result) {
+        if (result instanceof Collection<?> rows) {
+            return rows.size();
+        }
+        if (result instanceof Optional<?> row) {
+            return row.isPresent() ? 1 : 0;
+        }
+        return result != null ? 1 : 0;
+    }
+
+    private record RepositoryMeters(Timer timer, DistributionSummary rows) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.entain.sporteventsapi.config;
+
+import com.entain.sporteventsapi.controller.EventChangeFeed;
+import com.entain.sporteventsapi.scheduler.EventActivationScheduler;
+import com.entain.sporteventsapi.service.EventListingCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+    @Bean
+    public MeterBinder eventListingCacheMetrics(EventListingCache cache) {
+        return registry -> {
+            FunctionCounter.builder("events.cache.requests", cache, c -> c.stats().hits())
+                    .description("Listing cache lookups")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("events.cache.requests", cache, c -> c.stats().misses())
+                    .description("Listing cache lookups")
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("events.cache.evictions", cache, c -> c.stats().evictions())
+                    .description("Listing cache entries dropped by writes")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder eventActivationSchedulerMetrics(ObjectProvider<EventActivationScheduler> scheduler) {
+        return registry -> scheduler.ifAvailable(s -> Gauge.builder("events.scheduler.pending", s,
+                        EventActivationScheduler::pendingCount)
+                .description("Events waiting in the activation timing wheel")
+                .register(registry));
+    }
+
+    @Bean
+    public MeterBinder eventChangeFeedMetrics(EventChangeFeed feed) {
+        return registry -> Gauge.builder("events.stream.subscribers", feed, EventChangeFeed::subscriberCount)
+                .description("Open Server-Sent Events subscriptions")
+                .register(registry);
+    }
+}
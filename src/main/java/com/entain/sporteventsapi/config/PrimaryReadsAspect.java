@@ -0,0 +1,32 @@
+package com.entain.sporteventsapi.config;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pins the calling thread to the primary for the duration of every {@link ReadsPrimary} method. The connection is
+ * only chosen at the first statement, so it makes no difference whether a transaction was opened before.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "events.datasource.replica-urls")
+@RequiredArgsConstructor
+public class PrimaryReadsAspect {
+    private final ReadYourWrites readYourWrites;
+
+    @Around("@annotation(com.entain.sporteventsapi.config.ReadsPrimary)")
+    public Object readPrimary(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!readYourWrites.pinThread()) {
+            return joinPoint.proceed();
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            readYourWrites.unpinThread();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.entain.sporteventsapi.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers when each client last wrote, so its reads can stay on the primary until the replicas have
+ * caught up. A client is the {@code X-Client-Id} header, or the remote address without one. Work that
+ * does not come from a request (the scheduler, write-behind flushes) has no client and is never pinned.
+ * {@link ReadsPrimary} reads pin only their own thread, for as long as they run, and start no window.
+ */
+@Component
+@ConditionalOnProperty(name = "events.datasource.replica-urls")
+public class ReadYourWrites extends OncePerRequestFilter {
+    static final String CLIENT_HEADER = "X-Client-Id";
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private final ThreadLocal<String> currentClient = new ThreadLocal<>();
+    private final ThreadLocal<Boolean> threadPinned = new ThreadLocal<>();
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+    private final long windowMillis;
+
+    public ReadYourWrites(@Value("${events.datasource.read-your-writes-millis:2000}") long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String client = request.getHeader(CLIENT_HEADER);
+        currentClient.set(client != null ? client : request.getRemoteAddr());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            currentClient.remove();
+        }
+    }
+
+    public void recordWrite() {
+        String client = currentClient.get();
+        if (client == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        pinnedUntil.put(client, now + windowMillis);
+        if (pinnedUntil.size() > PRUNE_THRESHOLD) {
+            pinnedUntil.values().removeIf(until -> until < now);
+        }
+    }
+
+    // Returns false if the thread already was pinned, in which case the caller must leave unpinning to the outer one
+    boolean pinThread() {
+        if (threadPinned.get() != null) {
+            return false;
+        }
+        threadPinned.set(Boolean.TRUE);
+        return true;
+    }
+
+    void unpinThread() {
+        threadPinned.remove();
+    }
+
+    public boolean isPinnedToPrimary() {
+        if (threadPinned.get() != null) {
+            return true;
+        }
+        String client = currentClient.get();
+        if (client == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(client);
+        return until != null && until >= System.currentTimeMillis();
+    }
+}
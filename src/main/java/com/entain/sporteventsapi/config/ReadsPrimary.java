@@ -0,0 +1,16 @@
+package com.entain.sporteventsapi.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read whose result outlives the call: it is cached, tagged with a listing ETag or loaded into memory, or
+ * decides whether a write may go ahead. With replicas configured it runs on the primary even inside a read-only
+ * transaction, so a lagging replica can never stand in for the current state. Without replicas it does nothing.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReadsPrimary {
+}
@@ -0,0 +1,86 @@
+package com.entain.sporteventsapi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Sends read-only transactions to the replicas in {@code events.datasource.replica-urls} and everything
+ * else to the primary. The lazy proxy only fetches a physical connection at the first statement, after the
+ * transaction manager has marked it read-only, which is what lets it choose between the two sides. That only holds
+ * while every transaction gets its own connection, so {@code spring.jpa.open-in-view} must be off: an entity
+ * manager held open for the whole request keeps the first connection it got, replica or not, for later writes.
+ */
+@Configuration
+@ConditionalOnProperty(name = "events.datasource.replica-urls")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 DataSourceProperties properties,
+                                 ReadYourWrites readYourWrites,
+                                 @Value("${events.datasource.replica-urls}") List<String> replicaUrls,
+                                 @Value("${events.datasource.replica-pool-size:10}") int replicaPoolSize,
+                                 @Value("${events.datasource.migrate-replicas:false}") boolean migrateReplicas,
+                                 @Value("${spring.flyway.locations:classpath:db/migration}") String[] migrationLocations,
+                                 @Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        if (openInView) {
+            throw new IllegalStateException("Replica routing needs spring.jpa.open-in-view=false");
+        }
+        if (migrateReplicas) {
+            // Only for stand-in replicas; real ones receive the schema through replication
+            replicaUrls.forEach(url -> Flyway.configure()
+                    .dataSource(url.strip(), properties.determineUsername(), properties.determinePassword())
+                    .locations(migrationLocations)
+                    .load()
+                    .migrate());
+        }
+        List<DataSource> replicas = IntStream.range(0, replicaUrls.size())
+                .mapToObj(i -> replica(properties, "replica-" + i, replicaUrls.get(i), replicaPoolSize))
+                .toList();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(new DelegatingDataSource(primaryDataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                // Any connection taken for writing starts the client's window on the primary
+                readYourWrites.recordWrite();
+                return super.getConnection();
+            }
+        });
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWrites));
+        return dataSource;
+    }
+
+    private static DataSource replica(DataSourceProperties properties, String name, String url, int poolSize) {
+        HikariDataSource replica = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url.strip())
+                .build();
+        replica.setPoolName(name);
+        replica.setMaximumPoolSize(poolSize);
+        replica.setReadOnly(true);
+        return replica;
+    }
+}
@@ -0,0 +1,135 @@
+package com.entain.sporteventsapi.controller;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
+import com.entain.sporteventsapi.service.EventChange;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Fans {@link EventChange}s out to Server-Sent Events subscribers. Writers only ever offer to a bounded
+ * per-subscriber buffer; each subscriber is drained by its own virtual thread, so a slow client can
+ * fill its own buffer but never block the thread that changed the event.
+ */
+@Slf4j
+@Component
+public class EventChangeFeed {
+    public enum OverflowPolicy {
+        DISCONNECT, DROP_OLDEST
+    }
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final OverflowPolicy overflowPolicy;
+
+    public EventChangeFeed(@Value("${events.stream.buffer-size:256}") int bufferSize,
+                           @Value("${events.stream.timeout-millis:1800000}") long timeoutMillis,
+                           @Value("${events.stream.overflow-policy:DISCONNECT}") OverflowPolicy overflowPolicy) {
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public SseEmitter subscribe(EventStatus status, Sport sport) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, status, sport, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> close(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(error -> close(subscriber));
+        subscribers.add(subscriber);
+        subscriber.drainer = executor.submit(() -> drain(subscriber));
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.accepts(change) || subscriber.buffer.offer(change)) {
+                continue;
+            }
+            if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+                subscriber.buffer.poll();
+                subscriber.buffer.offer(change);
+            } else {
+                log.debug("Disconnecting event stream subscriber that fell {} changes behind", bufferSize);
+                close(subscriber);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            while (!subscriber.closed) {
+                EventChange change = subscriber.buffer.take();
+                subscriber.emitter.send(SseEmitter.event()
+                        .name(change.isCreation() ? "created" : "status-changed")
+                        .data(change.event(), MediaType.APPLICATION_JSON));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Event stream subscriber went away", e);
+        } finally {
+            subscribers.remove(subscriber);
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscribers.remove(subscriber);
+        Future<?> drainer = subscriber.drainer;
+        if (drainer != null) {
+            drainer.cancel(true);
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final EventStatus status;
+        private final Sport sport;
+        private final BlockingQueue<EventChange> buffer;
+        private volatile boolean closed;
+        private volatile Future<?> drainer;
+
+        private Subscriber(SseEmitter emitter, EventStatus status, Sport sport, BlockingQueue<EventChange> buffer) {
+            this.emitter = emitter;
+            this.status = status;
+            this.sport = sport;
+            this.buffer = buffer;
+        }
+
+        // A change out of the subscribed status is delivered too, so the subscriber can drop the event from its view
+        private boolean accepts(EventChange change) {
+            EventDTO event = change.event();
+            return (status == null || status.name().equals(event.getEventStatus()) || status == change.previousStatus())
+                    && (sport == null || sport.name().equals(event.getSport()));
+        }
+    }
+}
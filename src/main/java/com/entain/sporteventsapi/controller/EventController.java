@@ -1,36 +1,212 @@
 package com.entain.sporteventsapi.controller;
 
+import com.entain.sporteventsapi.dto.EventBatchResultDTO;
 import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.dto.EventImportResultDTO;
+import com.entain.sporteventsapi.dto.EventPageDTO;
+import com.entain.sporteventsapi.dto.EventStatsDTO;
+import com.entain.sporteventsapi.dto.EventStatusBulkResultDTO;
+import com.entain.sporteventsapi.dto.EventStatusBulkUpdateDTO;
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
 import com.entain.sporteventsapi.service.EventService;
+import com.entain.sporteventsapi.service.EventStatistics;
+import com.entain.sporteventsapi.service.EventStatusWriteBehind;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/events")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class EventController {
+    // In the order the message converters are registered, so JSON wins a wildcard
+    private static final List<MediaType> ENCODINGS = List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR,
+            new MediaType("application", "x-jackson-smile"));
+
     private final EventService eventService;
+    private final ObjectMapper objectMapper;
+    private final EventChangeFeed changeFeed;
+    private final EventETags eventTags;
+    private final EventStatistics statistics;
+    private final EventNdjson ndjson;
+    private final EventStatusWriteBehind writeBehind;
+    private final ContentNegotiationManager contentNegotiationManager;
 
     @PostMapping
     public EventDTO createEvent(@RequestBody EventDTO eventDTO) {
         return eventService.createEvent(eventDTO);
     }
 
+    @PostMapping("/batch")
+    public EventBatchResultDTO createEvents(@RequestBody List<EventDTO> eventDTOs) {
+        return eventService.createEvents(eventDTOs);
+    }
+
     @GetMapping
     public List<EventDTO> getEvents(@RequestParam(required = false) String status,
-                                    @RequestParam(required = false) String sport) {
+                                    @RequestParam(required = false) String sport,
+                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                    @RequestParam(required = false) String sort,
+                                    @RequestParam(defaultValue = "false") boolean includeArchived,
+                                    ServletWebRequest request) {
+        // A start time range is a subset of its (status, sport) listing, so the listing's tag covers it too
+        String listingTag = eventTags.listingTag(status != null ? EventStatus.valueOf(status) : null,
+                sport != null ? Sport.valueOf(sport) : null, encoding(request));
+        if (request.checkNotModified(listingTag)) {
+            return null;
+        }
+        if (from != null || to != null || sort != null) {
+            return eventService.getEventsByStartTime(status, sport, from, to, sort);
+        }
+        if (includeArchived) {
+            return eventService.getEventsIncludingArchived(status, sport);
+        }
         return eventService.getEvents(status, sport);
     }
 
+    @GetMapping("/upcoming")
+    public List<EventDTO> getUpcomingEvents(@RequestParam(required = false) String status,
+                                            @RequestParam(required = false) String sport,
+                                            @RequestParam(defaultValue = "10") int limit) {
+        return eventService.getUpcomingEvents(status, sport, limit);
+    }
+
+    @GetMapping("/stats")
+    public EventStatsDTO getEventStats() {
+        return statistics.snapshot();
+    }
+
+    @GetMapping("/search")
+    public List<EventDTO> searchEvents(@RequestParam String q,
+                                       @RequestParam(required = false) String status,
+                                       @RequestParam(required = false) String sport,
+                                       @RequestParam(defaultValue = "10") int limit) {
+        return eventService.searchEvents(q, status, sport, limit);
+    }
+
+    @GetMapping(params = "limit")
+    public EventPageDTO getEventsPage(@RequestParam(required = false) String status,
+                                      @RequestParam(required = false) String sport,
+                                      @RequestParam(required = false) Long after,
+                                      @RequestParam int limit) {
+        return eventService.getEventsPage(status, sport, after, limit);
+    }
+
+    @GetMapping(params = {"stream=true", "!limit"})
+    public ResponseEntity<StreamingResponseBody> streamEvents(@RequestParam(required = false) String status,
+                                                              @RequestParam(required = false) String sport) {
+        ObjectWriter writer = objectMapper.writerFor(EventDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                eventService.streamEvents(status, sport, event -> {
+                    try {
+                        writer.writeValue(generator, event);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @GetMapping(value = "/export", produces = EventNdjson.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> exportEvents(@RequestParam(required = false) String status,
+                                                              @RequestParam(required = false) String sport) {
+        StreamingResponseBody body = outputStream -> ndjson.export(status, sport, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(EventNdjson.MEDIA_TYPE))
+                .body(body);
+    }
+
+    @PostMapping("/import")
+    public EventImportResultDTO importEvents(InputStream body) throws IOException {
+        return ndjson.importEvents(body);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestParam(required = false) String status,
+                                    @RequestParam(required = false) String sport) {
+        return changeFeed.subscribe(status != null ? EventStatus.valueOf(status) : null,
+                sport != null ? Sport.valueOf(sport) : null);
+    }
+
     @GetMapping("/{id}")
-    public EventDTO getEventById(@PathVariable Long id) {
-        return eventService.getEventById(id);
+    public EventDTO getEventById(@PathVariable Long id, ServletWebRequest request) {
+        MediaType encoding = encoding(request);
+        String knownTag = eventTags.eventTag(id, encoding);
+        if (knownTag != null && request.checkNotModified(knownTag)) {
+            return null;
+        }
+        EventDTO event = eventService.getEventById(id);
+        String eventTag = eventTags.eventTag(event, encoding);
+        if (eventTag != null && request.checkNotModified(eventTag)) {
+            return null;
+        }
+        return event;
     }
 
     @PutMapping("/{id}/status")
     public EventDTO updateEventStatus(@PathVariable Long id, @RequestParam String newStatus) {
         return eventService.updateEventStatus(id, newStatus);
     }
+
+    @PutMapping(value = "/{id}/status", params = "async=true")
+    public ResponseEntity<Void> updateEventStatusAsync(@PathVariable Long id, @RequestParam String newStatus) {
+        writeBehind.submit(id, newStatus);
+        return ResponseEntity.accepted().build();
+    }
+
+    @PutMapping("/status")
+    public EventStatusBulkResultDTO updateEventStatuses(@RequestBody EventStatusBulkUpdateDTO request) {
+        return eventService.updateEventStatuses(request);
+    }
+
+    /**
+     * Picks the encoding the message converters will answer with, the way they do: the first of the client's
+     * acceptable types, most specific first, that one of them can write. The answer depends on {@code Accept},
+     * so shared caches are told to key on it.
+     */
+    private MediaType encoding(ServletWebRequest request) {
+        request.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        try {
+            for (MediaType accepted : contentNegotiationManager.resolveMediaTypes(request)) {
+                for (MediaType encoding : ENCODINGS) {
+                    if (accepted.isCompatibleWith(encoding)) {
+                        return encoding;
+                    }
+                }
+            }
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            // An unparseable Accept header fails the response anyway; JSON keeps the tag well-formed until then
+        }
+        return MediaType.APPLICATION_JSON;
+    }
 }
@@ -0,0 +1,86 @@
+package com.entain.sporteventsapi.controller;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
+import com.entain.sporteventsapi.service.EventChange;
+import com.entain.sporteventsapi.service.EventListingCache;
+import com.entain.sporteventsapi.service.EventsArchived;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Computes ETags without loading or serializing anything. Event tags come from the event's version,
+ * which is remembered from every read and every {@link EventChange}; listing tags come from the
+ * generation the listing cache keeps per (status, sport) filter. Both end in the encoding of the response, since
+ * JSON, CBOR and Smile share the same URLs and a tag must only match the bytes it was sent with.
+ * <p>
+ * Both are only as current as the changes this instance has seen. With several instances writing to the same
+ * database, set {@code events.etag.max-tracked-events=0} so every event tag is checked against the loaded row.
+ */
+@Component
+public class EventETags {
+    // Listing generations restart at zero with the process, so they are qualified by the boot time
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Long, Long> versions;
+    private final EventListingCache listingCache;
+
+    public EventETags(EventListingCache listingCache,
+                      @Value("${events.etag.max-tracked-events:500000}") int maxTrackedEvents) {
+        this.listingCache = listingCache;
+        // Least recently used first, so the events clients keep asking for stay tracked once the limit is reached
+        this.versions = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > maxTrackedEvents;
+            }
+        });
+    }
+
+    public String eventTag(Long id, MediaType encoding) {
+        Long version = versions.get(id);
+        return version != null ? eventTag(id, version, encoding) : null;
+    }
+
+    public String eventTag(EventDTO event, MediaType encoding) {
+        remember(event);
+        return event.getVersion() != null ? eventTag(event.getId(), event.getVersion(), encoding) : null;
+    }
+
+    public String listingTag(EventStatus status, Sport sport, MediaType encoding) {
+        return "\"l-%s-%s-%s-%d-%s\"".formatted(epoch, status, sport, listingCache.generation(status, sport),
+                encoding.getSubtype());
+    }
+
+    public void forget(Long id) {
+        versions.remove(id);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        remember(change.event());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsArchived(EventsArchived archived) {
+        archived.ids().forEach(this::forget);
+    }
+
+    private void remember(EventDTO event) {
+        if (event.getId() == null || event.getVersion() == null) {
+            return;
+        }
+        // Versions only grow, so a slow read can never roll back what a write already recorded
+        versions.merge(event.getId(), event.getVersion(), Math::max);
+    }
+
+    private static String eventTag(Long id, long version, MediaType encoding) {
+        return "\"e-%d-%d-%s\"".formatted(id, version, encoding.getSubtype());
+    }
+}
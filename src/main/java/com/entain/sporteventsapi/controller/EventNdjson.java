@@ -0,0 +1,136 @@
+package com.entain.sporteventsapi.controller;
+
+import com.entain.sporteventsapi.dto.EventBatchErrorDTO;
+import com.entain.sporteventsapi.dto.EventBatchResultDTO;
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.dto.EventImportResultDTO;
+import com.entain.sporteventsapi.service.EventService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Newline-delimited JSON export and import. Export writes one event per line from a database cursor;
+ * import reads the body line by line and creates events in fixed-size batches, one transaction each,
+ * so neither side ever holds more than a batch in memory. Imported events are created anew: exported
+ * ids and versions are not kept, the database assigns fresh ones.
+ */
+@Slf4j
+@Component
+public class EventNdjson {
+    public static final String MEDIA_TYPE = "application/x-ndjson";
+
+    private final EventService eventService;
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public EventNdjson(EventService eventService, ObjectMapper objectMapper,
+                       @Value("${events.import.batch-size:1000}") int batchSize,
+                       @Value("${events.import.max-reported-errors:1000}") int maxReportedErrors) {
+        // Every batch goes through createEvents, which refuses anything larger
+        if (batchSize < 1 || batchSize > EventService.MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("events.import.batch-size must be between 1 and %d, was %d"
+                    .formatted(EventService.MAX_BATCH_SIZE, batchSize));
+        }
+        this.eventService = eventService;
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writerFor(EventDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.reader = objectMapper.readerFor(EventDTO.class);
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public void export(String status, String sport, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            // Lines are ended explicitly, so no separator goes in front of each value
+            generator.setRootValueSeparator(null);
+            eventService.streamEvents(status, sport, event -> {
+                try {
+                    writer.writeValue(generator, event);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    public EventImportResultDTO importEvents(InputStream inputStream) throws IOException {
+        ImportProgress progress = new ImportProgress();
+        List<EventDTO> batch = new ArrayList<>(batchSize);
+        int[] batchLines = new int[batchSize];
+        BufferedReader lines = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        int lineNumber = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                batchLines[batch.size()] = lineNumber;
+                batch.add(reader.readValue(line));
+            } catch (JsonProcessingException e) {
+                progress.fail(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            if (batch.size() == batchSize) {
+                flush(batch, batchLines, progress);
+            }
+        }
+        flush(batch, batchLines, progress);
+        log.info("Import finished: {} events imported, {} lines failed", progress.imported, progress.failed);
+        return new EventImportResultDTO(progress.imported, progress.failed, progress.errors);
+    }
+
+    private void flush(List<EventDTO> batch, int[] batchLines, ImportProgress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            EventBatchResultDTO result = eventService.createEvents(batch);
+            progress.imported += result.getCreated().size();
+            result.getErrors().forEach(error -> progress.fail(batchLines[error.getIndex()], error.getMessage()));
+        } catch (RuntimeException e) {
+            log.warn("Import batch of {} events failed", batch.size(), e);
+            for (int i = 0; i < batch.size(); i++) {
+                progress.fail(batchLines[i], "Batch failed: " + e.getMessage());
+            }
+        }
+        batch.clear();
+        log.info("Import progress: {} events imported, {} lines failed", progress.imported, progress.failed);
+    }
+
+    private final class ImportProgress {
+        private final List<EventBatchErrorDTO> errors = new ArrayList<>();
+        private long imported;
+        private long failed;
+
+        void fail(int lineNumber, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new EventBatchErrorDTO(lineNumber, message));
+            }
+        }
+    }
+}
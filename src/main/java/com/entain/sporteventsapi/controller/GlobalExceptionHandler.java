@@ -1,26 +1,60 @@
 package com.entain.sporteventsapi.controller;
 
+import com.entain.sporteventsapi.service.EventConflictException;
 import com.entain.sporteventsapi.service.EventException;
 import com.entain.sporteventsapi.service.EventNotFoundException;
+import com.entain.sporteventsapi.service.EventQueueFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
 @ControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
+    private final MeterRegistry meterRegistry;
+
     @ExceptionHandler(EventNotFoundException.class)
     public ResponseEntity<String> handleEventNotFoundException(EventNotFoundException ex) {
-        return new ResponseEntity<>(ex.getMessage(), HttpStatus.NOT_FOUND);
+        return respond(ex, HttpStatus.NOT_FOUND);
     }
 
     @ExceptionHandler(EventException.class)
     public ResponseEntity<String> handleEventException(EventException ex) {
-        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        return respond(ex, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(EventConflictException.class)
+    public ResponseEntity<String> handleEventConflictException(EventConflictException ex) {
+        return respond(ex, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(EventQueueFullException.class)
+    public ResponseEntity<String> handleEventQueueFullException(EventQueueFullException ex) {
+        return respond(ex, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<String> handleHttpMessageNotReadableException(HttpMessageNotReadableException ex) {
+        return respond(ex, HttpStatus.BAD_REQUEST);
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handleException(Exception ex) {
-        return new ResponseEntity<>(ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        return respond(ex, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    private ResponseEntity<String> respond(Exception ex, HttpStatus status) {
+        Counter.builder("events.errors")
+                .description("Exceptions mapped to error responses")
+                .tag("exception", ex.getClass().getSimpleName())
+                .tag("status", String.valueOf(status.value()))
+                .register(meterRegistry)
+                .increment();
+        return new ResponseEntity<>(ex.getMessage(), status);
     }
 }
@@ -0,0 +1,42 @@
+package com.entain.sporteventsapi.controller;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.service.ReactiveEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The core of the events API on WebFlux, active when the application runs as a reactive web application
+ * (the {@code reactive} profile). Listings are streamed from the database as the client reads them.
+ */
+@RestController
+@RequestMapping("/api/events")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveEventController {
+    private final ReactiveEventService eventService;
+
+    @PostMapping
+    public Mono<EventDTO> createEvent(@RequestBody EventDTO eventDTO) {
+        return eventService.createEvent(eventDTO);
+    }
+
+    @GetMapping
+    public Flux<EventDTO> getEvents(@RequestParam(required = false) String status,
+                                    @RequestParam(required = false) String sport) {
+        return eventService.getEvents(status, sport);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<EventDTO> getEventById(@PathVariable Long id) {
+        return eventService.getEventById(id);
+    }
+
+    @PutMapping("/{id}/status")
+    public Mono<EventDTO> updateEventStatus(@PathVariable Long id, @RequestParam String newStatus) {
+        return eventService.updateEventStatus(id, newStatus);
+    }
+}
@@ -0,0 +1,13 @@
+package com.entain.sporteventsapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(force = true)
+public class EventBatchErrorDTO {
+    private final int index;
+    private final String message;
+}
@@ -0,0 +1,15 @@
+package com.entain.sporteventsapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(force = true)
+public class EventBatchResultDTO {
+    private final List<EventDTO> created;
+    private final List<EventBatchErrorDTO> errors;
+}
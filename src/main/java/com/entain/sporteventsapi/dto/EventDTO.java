@@ -22,6 +22,7 @@ public class EventDTO {
     private final String eventStatus;
     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
     private final LocalDateTime startTime;
+    private final Long version;
 
     public EventDTO(String name, String sport, String eventStatus, LocalDateTime startTime) {
         this.id = null;
@@ -29,6 +30,7 @@ public class EventDTO {
         this.sport = sport;
         this.eventStatus = eventStatus;
         this.startTime = startTime;
+        this.version = null;
     }
 
     public EventDTO(Event entity) {
@@ -37,7 +39,17 @@ public class EventDTO {
         this.sport = entity.getSport().name();
         this.eventStatus = entity.getEventStatus().name();
         this.startTime = entity.getStartTime();
+        this.version = entity.getVersion();
+    }
 
+    // Target of the JPQL constructor expressions in EventRepository
+    public EventDTO(Long id, String name, Sport sport, EventStatus eventStatus, LocalDateTime startTime, Long version) {
+        this.id = id;
+        this.name = name;
+        this.sport = sport.name();
+        this.eventStatus = eventStatus.name();
+        this.startTime = startTime;
+        this.version = version;
     }
 
     public Event convertToEntity() {
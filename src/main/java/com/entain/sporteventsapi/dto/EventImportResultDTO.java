@@ -0,0 +1,17 @@
+package com.entain.sporteventsapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(force = true)
+public class EventImportResultDTO {
+    private final long imported;
+    private final long failed;
+    // Indexes are 1-based line numbers; only the first errors are kept
+    private final List<EventBatchErrorDTO> errors;
+}
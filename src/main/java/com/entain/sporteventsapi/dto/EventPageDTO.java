@@ -0,0 +1,15 @@
+package com.entain.sporteventsapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(force = true)
+public class EventPageDTO {
+    private final List<EventDTO> events;
+    private final Long nextCursor;
+}
@@ -0,0 +1,16 @@
+package com.entain.sporteventsapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(force = true)
+public class EventStatsDTO {
+    private final long total;
+    // sport -> status -> count, with every combination present
+    private final Map<String, Map<String, Long>> counts;
+}
@@ -0,0 +1,19 @@
+package com.entain.sporteventsapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(force = true)
+public class EventStatusBulkUpdateDTO {
+    private final List<Long> ids;
+    private final String sport;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final String newStatus;
+}
@@ -0,0 +1,38 @@
+package com.entain.sporteventsapi.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A FINISHED event moved out of the live {@code events} table. Rows keep their id and version,
+ * so lookups and ETags behave the same before and after archival.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "events_archive", indexes = {
+        @Index(name = "idx_events_archive_sport_start_time", columnList = "sport, start_time")
+})
+public class ArchivedEvent {
+    @Id
+    private Long id;
+
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    private Sport sport;
+
+    @Enumerated(EnumType.STRING)
+    private EventStatus eventStatus;
+
+    private LocalDateTime startTime;
+
+    private Long version;
+
+    private LocalDateTime archivedAt;
+}
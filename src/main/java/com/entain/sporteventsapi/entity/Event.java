@@ -12,10 +12,16 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        @Index(name = "idx_events_status_sport_start_time", columnList = "event_status, sport, start_time"),
+        @Index(name = "idx_events_sport_start_time", columnList = "sport, start_time"),
+        @Index(name = "idx_events_start_time", columnList = "start_time"),
+        @Index(name = "idx_events_status_start_time", columnList = "event_status, start_time")
+})
 public class Event {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -27,4 +33,7 @@ public class Event {
     private EventStatus eventStatus;
 
     private LocalDateTime startTime;
+
+    @Version
+    private Long version;
 }
@@ -0,0 +1,578 @@
+package com.entain.sporteventsapi.repository;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+import static com.entain.sporteventsapi.entity.EventStatus.ACTIVE;
+import static com.entain.sporteventsapi.entity.EventStatus.FINISHED;
+import static com.entain.sporteventsapi.entity.EventStatus.INACTIVE;
+
+/**
+ * An in-memory {@link EventStore} that keeps every field in its own primitive array: sport and status ordinals as
+ * bytes, start times as epoch microseconds in UTC ({@link Long#MIN_VALUE} for none), names as indexes into a pool of distinct names, and status and
+ * version packed into one long so they always change together. A bitmap per (sport, status) pair and one per sport
+ * answer the filtered listings. Ids are handed out densely from 1, so an event's row is its id minus one.
+ * <p>
+ * Writes are serialized on the store's monitor; reads never lock. A row is written completely before the volatile
+ * size that makes it visible, and a status change is one atomic write, so a listing that runs during a change sees
+ * the event either before or after it. Bitmaps only nominate rows, the packed status decides.
+ * <p>
+ * With {@code events.store.snapshot-path} set, the store is restored from that file at startup and written back on
+ * shutdown. The file holds the name pool and the columns as they are in memory; bitmaps are rebuilt on restore.
+ * <p>
+ * It is not an {@link EventArchive}, so the archiver does not run with it. It refuses to start with read replicas
+ * configured or under the reactive stack, both of which keep events in SQL. The {@code columnar} profile runs without
+ * a database.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "events.store.type", havingValue = "columnar")
+public class ColumnarEventStore implements EventStore {
+    private static final int MAGIC = 0x45564353; // "EVCS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int INITIAL_CAPACITY = 1024;
+    // Start time of events created without one; it sorts first, like NULL in H2, and no range or activation matches it
+    private static final long NO_START_TIME = Long.MIN_VALUE;
+    private static final Sport[] SPORTS = Sport.values();
+    private static final EventStatus[] STATUSES = EventStatus.values();
+
+    private final Path snapshotPath;
+
+    private volatile int size;
+    private volatile Columns columns = new Columns(INITIAL_CAPACITY);
+    private volatile String[] namePool = new String[64];
+
+    // Guarded by this
+    private final Map<String, Integer> nameIds = new HashMap<>();
+
+    public ColumnarEventStore(Environment environment) {
+        if (environment.containsProperty("events.datasource.replica-urls")) {
+            throw new IllegalStateException("Read replicas serve the JPA event store only, remove events.datasource.replica-urls");
+        }
+        if ("reactive".equalsIgnoreCase(environment.getProperty("spring.main.web-application-type"))) {
+            throw new IllegalStateException("The reactive stack reads events over R2DBC and cannot use the columnar event store");
+        }
+        String path = environment.getProperty("events.store.snapshot-path", "");
+        this.snapshotPath = path.isBlank() ? null : Path.of(path);
+    }
+
+    // Runs before the statistics, the name index and the scheduler read the store
+    @PostConstruct
+    public void restore() {
+        if (snapshotPath != null && Files.exists(snapshotPath)) {
+            log.info("Restored {} events from {}", restore(snapshotPath), snapshotPath);
+        }
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        if (snapshotPath != null) {
+            snapshot(snapshotPath);
+            log.info("Wrote {} events to {}", size, snapshotPath);
+        }
+    }
+
+    @Override
+    public synchronized EventDTO save(EventDTO event) {
+        Sport sport = Sport.valueOf(event.getSport());
+        EventStatus status = EventStatus.valueOf(event.getEventStatus());
+        long startTime = event.getStartTime() != null ? toMicros(event.getStartTime()) : NO_START_TIME;
+        int row = size;
+        Columns current = ensureCapacity(row + 1);
+        current.names[row] = intern(event.getName());
+        current.sports[row] = (byte) sport.ordinal();
+        current.startTimes[row] = startTime;
+        current.states.set(row, state(status, 0));
+        setBit(current.bySportAndStatus[slot(sport, status)], row);
+        setBit(current.bySport[sport.ordinal()], row);
+        size = row + 1;
+        return toDto(current, namePool, row);
+    }
+
+    @Override
+    public synchronized List<EventDTO> saveAll(List<EventDTO> events) {
+        List<EventDTO> saved = new ArrayList<>(events.size());
+        for (EventDTO event : events) {
+            saved.add(save(event));
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<EventDTO> findById(Long id) {
+        int limit = size;
+        if (id == null || id < 1 || id > limit) {
+            return Optional.empty();
+        }
+        return Optional.of(toDto(columns, namePool, (int) (id - 1)));
+    }
+
+    @Override
+    public List<EventDTO> findAllById(Collection<Long> ids) {
+        List<EventDTO> events = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            findById(id).ifPresent(events::add);
+        }
+        return events;
+    }
+
+    @Override
+    public List<EventDTO> findAll() {
+        int limit = size;
+        Columns current = columns;
+        String[] pool = namePool;
+        List<EventDTO> events = new ArrayList<>(limit);
+        for (int row = 0; row < limit; row++) {
+            events.add(toDto(current, pool, row));
+        }
+        return events;
+    }
+
+    @Override
+    public List<EventDTO> findByEventStatus(EventStatus status) {
+        Columns current = columns;
+        AtomicLongArray[] bitmaps = new AtomicLongArray[SPORTS.length];
+        for (Sport sport : SPORTS) {
+            bitmaps[sport.ordinal()] = current.bySportAndStatus[slot(sport, status)];
+        }
+        return collect(current, bitmaps, status);
+    }
+
+    @Override
+    public List<EventDTO> findBySport(Sport sport) {
+        Columns current = columns;
+        return collect(current, new AtomicLongArray[]{current.bySport[sport.ordinal()]}, null);
+    }
+
+    @Override
+    public List<EventDTO> findByEventStatusAndSport(EventStatus status, Sport sport) {
+        Columns current = columns;
+        return collect(current, new AtomicLongArray[]{current.bySportAndStatus[slot(sport, status)]}, status);
+    }
+
+    @Override
+    public List<EventDTO> findPage(EventStatus status, Sport sport, long afterId, int limit) {
+        int rows = size;
+        Columns current = columns;
+        String[] pool = namePool;
+        List<EventDTO> events = new ArrayList<>(Math.min(limit, rows));
+        // Row r holds id r + 1, so the first row after the cursor is the cursor itself
+        for (int row = Math.clamp(afterId, 0, rows); row < rows && events.size() < limit; row++) {
+            if (matches(current, row, status, sport)) {
+                events.add(toDto(current, pool, row));
+            }
+        }
+        return events;
+    }
+
+    @Override
+    public List<EventDTO> findByStartTime(EventStatus status, Sport sport, LocalDateTime from, LocalDateTime to,
+                                          boolean descending, Limit limit) {
+        int rows = size;
+        Columns current = columns;
+        String[] pool = namePool;
+        long fromMicros = from != null ? toMicros(from) : Long.MIN_VALUE;
+        long toMicros = to != null ? toMicros(to) : Long.MAX_VALUE;
+        List<Integer> matching = new ArrayList<>();
+        for (int row = 0; row < rows; row++) {
+            long startTime = current.startTimes[row];
+            if (inRange(startTime, from, to, fromMicros, toMicros) && matches(current, row, status, sport)) {
+                matching.add(row);
+            }
+        }
+        Comparator<Integer> order = Comparator.<Integer>comparingLong(row -> current.startTimes[row])
+                .thenComparing(Comparator.naturalOrder());
+        matching.sort(descending ? order.reversed() : order);
+        return matching.stream()
+                .limit(limit.isLimited() ? limit.max() : Long.MAX_VALUE)
+                .map(row -> toDto(current, pool, row))
+                .toList();
+    }
+
+    @Override
+    public void forEach(EventStatus status, Sport sport, Consumer<EventDTO> consumer) {
+        int rows = size;
+        Columns current = columns;
+        String[] pool = namePool;
+        for (int row = 0; row < rows; row++) {
+            if (matches(current, row, status, sport)) {
+                consumer.accept(toDto(current, pool, row));
+            }
+        }
+    }
+
+    @Override
+    public List<Long> findIdsBySportAndStartTime(Sport sport, LocalDateTime from, LocalDateTime to) {
+        int rows = size;
+        Columns current = columns;
+        long fromMicros = from != null ? toMicros(from) : Long.MIN_VALUE;
+        long toMicros = to != null ? toMicros(to) : Long.MAX_VALUE;
+        List<Long> ids = new ArrayList<>();
+        for (int row = 0; row < rows; row++) {
+            long startTime = current.startTimes[row];
+            if (inRange(startTime, from, to, fromMicros, toMicros) && matches(current, row, null, sport)) {
+                ids.add((long) row + 1);
+            }
+        }
+        return ids;
+    }
+
+    @Override
+    public synchronized boolean compareAndSetStatus(Long id, EventStatus expectedStatus, Long expectedVersion,
+                                                    EventStatus newStatus) {
+        if (id == null || id < 1 || id > size) {
+            return false;
+        }
+        int row = (int) (id - 1);
+        Columns current = columns;
+        long state = current.states.get(row);
+        if (statusOf(state) != expectedStatus || versionOf(state) != expectedVersion) {
+            return false;
+        }
+        setStatus(current, row, state, newStatus);
+        return true;
+    }
+
+    // Same rules as the predicates in EventRepositoryCustomImpl.transitionStatus
+    @Override
+    public synchronized List<EventDTO> transitionStatuses(Collection<Long> ids, EventStatus newStatus, LocalDateTime now) {
+        long nowMicros = toMicros(now);
+        return changeStatuses(ids, newStatus, (status, startTime) -> switch (newStatus) {
+            case INACTIVE -> status != FINISHED;
+            case ACTIVE -> status == ACTIVE || status == INACTIVE && startTime >= nowMicros;
+            case FINISHED -> status == ACTIVE;
+        });
+    }
+
+    @Override
+    public synchronized List<EventDTO> activateStarted(Collection<Long> ids, LocalDateTime now) {
+        long nowMicros = toMicros(now);
+        return changeStatuses(ids, ACTIVE, (status, startTime) -> status == INACTIVE && startTime != NO_START_TIME
+                && startTime <= nowMicros);
+    }
+
+    @Override
+    public List<SportStatusCount> countBySportAndStatus() {
+        int rows = size;
+        Columns current = columns;
+        long[] counts = new long[SPORTS.length * STATUSES.length];
+        for (int row = 0; row < rows; row++) {
+            counts[slot(SPORTS[current.sports[row]], statusOf(current.states.get(row)))]++;
+        }
+        List<SportStatusCount> result = new ArrayList<>();
+        for (Sport sport : SPORTS) {
+            for (EventStatus status : STATUSES) {
+                if (counts[slot(sport, status)] > 0) {
+                    result.add(new Count(sport, status, counts[slot(sport, status)]));
+                }
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Writes the store to {@code path} through a temporary file, so a crash mid-write leaves the previous
+     * snapshot in place. Writers wait while the columns are copied out; readers do not.
+     */
+    public synchronized void snapshot(Path path) {
+        int rows = size;
+        Columns current = columns;
+        int poolSize = nameIds.size();
+        byte[][] names = new byte[poolSize][];
+        int poolBytes = 0;
+        for (int i = 0; i < poolSize; i++) {
+            names[i] = namePool[i] != null ? namePool[i].getBytes(StandardCharsets.UTF_8) : null;
+            poolBytes += Integer.BYTES + (names[i] != null ? names[i].length : 0);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(4 * Integer.BYTES + poolBytes
+                + rows * (Integer.BYTES + Byte.BYTES + 2 * Long.BYTES));
+        buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(rows).putInt(poolSize);
+        // A missing name is written as length -1
+        for (byte[] name : names) {
+            if (name != null) {
+                buffer.putInt(name.length).put(name);
+            } else {
+                buffer.putInt(-1);
+            }
+        }
+        buffer.asIntBuffer().put(current.names, 0, rows);
+        buffer.position(buffer.position() + rows * Integer.BYTES);
+        buffer.put(current.sports, 0, rows);
+        buffer.asLongBuffer().put(current.startTimes, 0, rows);
+        buffer.position(buffer.position() + rows * Long.BYTES);
+        for (int row = 0; row < rows; row++) {
+            buffer.putLong(current.states.get(row));
+        }
+        try {
+            Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+            Files.write(temporary, buffer.array());
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write event store snapshot to " + path, e);
+        }
+    }
+
+    // Only meant for an empty store at startup; returns the number of events restored
+    public synchronized int restore(Path path) {
+        if (size != 0) {
+            throw new IllegalStateException("Cannot restore into a store that already holds events");
+        }
+        ByteBuffer buffer;
+        try {
+            buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read event store snapshot " + path, e);
+        }
+        if (buffer.remaining() < 4 * Integer.BYTES || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+            throw new IllegalStateException("Not an event store snapshot of format %d: %s".formatted(FORMAT_VERSION, path));
+        }
+        int rows = buffer.getInt();
+        int poolSize = buffer.getInt();
+        String[] pool = new String[Math.max(poolSize, 64)];
+        for (int i = 0; i < poolSize; i++) {
+            int length = buffer.getInt();
+            if (length >= 0) {
+                byte[] name = new byte[length];
+                buffer.get(name);
+                pool[i] = new String(name, StandardCharsets.UTF_8);
+            }
+            nameIds.put(pool[i], i);
+        }
+        Columns restoredColumns = new Columns(Math.max(INITIAL_CAPACITY, rows));
+        buffer.asIntBuffer().get(restoredColumns.names, 0, rows);
+        buffer.position(buffer.position() + rows * Integer.BYTES);
+        buffer.get(restoredColumns.sports, 0, rows);
+        buffer.asLongBuffer().get(restoredColumns.startTimes, 0, rows);
+        buffer.position(buffer.position() + rows * Long.BYTES);
+        for (int row = 0; row < rows; row++) {
+            long state = buffer.getLong();
+            Sport sport = SPORTS[restoredColumns.sports[row]];
+            restoredColumns.states.set(row, state);
+            setBit(restoredColumns.bySportAndStatus[slot(sport, statusOf(state))], row);
+            setBit(restoredColumns.bySport[sport.ordinal()], row);
+        }
+        namePool = pool;
+        columns = restoredColumns;
+        size = rows;
+        return rows;
+    }
+
+    // Ors the bitmaps word by word and keeps the rows whose current status matches, if a status is given
+    private List<EventDTO> collect(Columns current, AtomicLongArray[] bitmaps, EventStatus status) {
+        int limit = Math.min(size, current.capacity);
+        String[] pool = namePool;
+        List<EventDTO> events = new ArrayList<>();
+        for (int word = 0; word << 6 < limit; word++) {
+            long bits = 0;
+            for (AtomicLongArray bitmap : bitmaps) {
+                bits |= bitmap.get(word);
+            }
+            while (bits != 0) {
+                int row = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                if (row >= limit) {
+                    break;
+                }
+                if (status == null || statusOf(current.states.get(row)) == status) {
+                    events.add(toDto(current, pool, row));
+                }
+            }
+        }
+        return events;
+    }
+
+    // Applies newStatus in id order to every known row the rule allows and returns those rows as they were before
+    private List<EventDTO> changeStatuses(Collection<Long> ids, EventStatus newStatus, TransitionRule rule) {
+        int rows = size;
+        Columns current = columns;
+        String[] pool = namePool;
+        List<EventDTO> changed = new ArrayList<>();
+        ids.stream()
+                .filter(id -> id != null && id >= 1 && id <= rows)
+                .distinct()
+                .sorted()
+                .forEach(id -> {
+                    int row = (int) (id - 1);
+                    long state = current.states.get(row);
+                    if (rule.allows(statusOf(state), current.startTimes[row])) {
+                        changed.add(toDto(current, pool, row));
+                        setStatus(current, row, state, newStatus);
+                    }
+                });
+        return changed;
+    }
+
+    // Set the new bit before and clear the old one after the status flips, so the row is never in neither
+    private static void setStatus(Columns current, int row, long state, EventStatus newStatus) {
+        EventStatus oldStatus = statusOf(state);
+        Sport sport = SPORTS[current.sports[row]];
+        setBit(current.bySportAndStatus[slot(sport, newStatus)], row);
+        current.states.set(row, state(newStatus, versionOf(state) + 1));
+        if (oldStatus != newStatus) {
+            clearBit(current.bySportAndStatus[slot(sport, oldStatus)], row);
+        }
+    }
+
+    private static boolean matches(Columns current, int row, EventStatus status, Sport sport) {
+        return (sport == null || current.sports[row] == sport.ordinal())
+                && (status == null || statusOf(current.states.get(row)) == status);
+    }
+
+    // Like the SQL range predicates: an event without a start time only passes when neither bound is given
+    private static boolean inRange(long startTime, LocalDateTime from, LocalDateTime to, long fromMicros, long toMicros) {
+        if (startTime == NO_START_TIME) {
+            return from == null && to == null;
+        }
+        return startTime >= fromMicros && startTime < toMicros;
+    }
+
+    private Columns ensureCapacity(int required) {
+        Columns current = columns;
+        if (required <= current.capacity) {
+            return current;
+        }
+        Columns grown = current.grow(Math.max(required, current.capacity * 2), size);
+        columns = grown;
+        return grown;
+    }
+
+    private int intern(String name) {
+        Integer id = nameIds.get(name);
+        if (id != null) {
+            return id;
+        }
+        int next = nameIds.size();
+        String[] pool = namePool;
+        if (next == pool.length) {
+            pool = Arrays.copyOf(pool, pool.length * 2);
+        }
+        pool[next] = name;
+        namePool = pool;
+        nameIds.put(name, next);
+        return next;
+    }
+
+    private static EventDTO toDto(Columns columns, String[] pool, int row) {
+        long state = columns.states.get(row);
+        long startTime = columns.startTimes[row];
+        return new EventDTO((long) row + 1, pool[columns.names[row]], SPORTS[columns.sports[row]].name(),
+                statusOf(state).name(), startTime != NO_START_TIME ? fromMicros(startTime) : null, versionOf(state));
+    }
+
+    private static int slot(Sport sport, EventStatus status) {
+        return sport.ordinal() * STATUSES.length + status.ordinal();
+    }
+
+    private static long state(EventStatus status, long version) {
+        return version << 8 | status.ordinal();
+    }
+
+    private static EventStatus statusOf(long state) {
+        return STATUSES[(int) (state & 0xFF)];
+    }
+
+    private static long versionOf(long state) {
+        return state >>> 8;
+    }
+
+    private static long toMicros(LocalDateTime time) {
+        return ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), time);
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000), (int) Math.floorMod(micros, 1_000_000) * 1_000,
+                ZoneOffset.UTC);
+    }
+
+    // Single writer, so a plain read-modify-write is enough; the volatile set publishes the word to readers
+    private static void setBit(AtomicLongArray bitmap, int row) {
+        bitmap.set(row >>> 6, bitmap.get(row >>> 6) | 1L << row);
+    }
+
+    private static void clearBit(AtomicLongArray bitmap, int row) {
+        bitmap.set(row >>> 6, bitmap.get(row >>> 6) & ~(1L << row));
+    }
+
+    private interface TransitionRule {
+        boolean allows(EventStatus status, long startTimeMicros);
+    }
+
+    private record Count(Sport getSport, EventStatus getEventStatus, long getEventCount) implements SportStatusCount {
+    }
+
+    private static final class Columns {
+        final int capacity;
+        final int[] names;
+        final byte[] sports;
+        final long[] startTimes;
+        final AtomicLongArray states;
+        final AtomicLongArray[] bySportAndStatus = new AtomicLongArray[SPORTS.length * STATUSES.length];
+        final AtomicLongArray[] bySport = new AtomicLongArray[SPORTS.length];
+
+        Columns(int capacity) {
+            this.capacity = capacity;
+            this.names = new int[capacity];
+            this.sports = new byte[capacity];
+            this.startTimes = new long[capacity];
+            this.states = new AtomicLongArray(capacity);
+            int words = (capacity + 63) >>> 6;
+            Arrays.setAll(bySportAndStatus, slot -> new AtomicLongArray(words));
+            Arrays.setAll(bySport, sport -> new AtomicLongArray(words));
+        }
+
+        // Copies the first rows into larger columns; readers keep using this instance until they reload the reference
+        Columns grow(int newCapacity, int rows) {
+            Columns grown = new Columns(newCapacity);
+            System.arraycopy(names, 0, grown.names, 0, rows);
+            System.arraycopy(sports, 0, grown.sports, 0, rows);
+            System.arraycopy(startTimes, 0, grown.startTimes, 0, rows);
+            for (int row = 0; row < rows; row++) {
+                grown.states.set(row, states.get(row));
+            }
+            copyBitmaps(bySportAndStatus, grown.bySportAndStatus);
+            copyBitmaps(bySport, grown.bySport);
+            return grown;
+        }
+
+        private static void copyBitmaps(AtomicLongArray[] from, AtomicLongArray[] to) {
+            for (int i = 0; i < from.length; i++) {
+                for (int word = 0; word < from[i].length(); word++) {
+                    to[i].set(word, from[i].get(word));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.entain.sporteventsapi.repository;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.Sport;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Where FINISHED events go once they are old enough to leave the live store. Only stores that keep one implement
+ * it, the JPA store with its {@code events_archive} table; without it the archiver does not run and reads see the
+ * live events alone.
+ */
+public interface EventArchive {
+    // Moves up to limit FINISHED events that started before cutoff to the archive and returns their ids
+    List<Long> archiveFinished(LocalDateTime cutoff, int limit, LocalDateTime archivedAt);
+
+    Optional<EventDTO> findArchivedById(Long id);
+
+    List<EventDTO> findArchived(Sport sport);
+}
@@ -0,0 +1,44 @@
+package com.entain.sporteventsapi.repository;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.ArchivedEvent;
+import com.entain.sporteventsapi.entity.Sport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EventArchiveRepository extends JpaRepository<ArchivedEvent, Long> {
+    String SELECT_EVENT_DTO = "select new com.entain.sporteventsapi.dto.EventDTO(" +
+            "e.id, e.name, e.sport, e.eventStatus, e.startTime, e.version) from ArchivedEvent e";
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_EVENT_DTO + " where e.id = :id")
+    Optional<EventDTO> findDtoById(@Param("id") Long id);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_EVENT_DTO + " where e.sport = :sport")
+    List<EventDTO> findDtoBySport(@Param("sport") Sport sport);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_EVENT_DTO)
+    List<EventDTO> findAllDtos();
+
+    @Transactional(readOnly = true)
+    @Query("select e.sport as sport, e.eventStatus as eventStatus, count(e) as eventCount from ArchivedEvent e group by e.sport, e.eventStatus")
+    List<EventStore.SportStatusCount> countBySportAndStatus();
+
+    @Modifying
+    @Query(value = "insert into events_archive (id, name, sport, event_status, start_time, version, archived_at) " +
+            "select id, name, sport, event_status, start_time, version, :archivedAt from events where id in :ids",
+            nativeQuery = true)
+    int copyFromEvents(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
@@ -1,16 +1,87 @@
 package com.entain.sporteventsapi.repository;
 
+import com.entain.sporteventsapi.dto.EventDTO;
 import com.entain.sporteventsapi.entity.Event;
 import com.entain.sporteventsapi.entity.EventStatus;
 import com.entain.sporteventsapi.entity.Sport;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long> {
-    List<Event> findByEventStatusAndSport(EventStatus status, Sport sport);
-    List<Event> findByEventStatus(EventStatus status);
-    List<Event> findBySport(Sport sport);
+public interface EventRepository extends JpaRepository<Event, Long>, EventRepositoryCustom {
+    String SELECT_EVENT_DTO = "select new com.entain.sporteventsapi.dto.EventDTO(" +
+            "e.id, e.name, e.sport, e.eventStatus, e.startTime, e.version) from Event e";
+
+    // Constructor expressions skip the persistence context, so listings never pay for entity snapshots
+    @Transactional(readOnly = true)
+    @Query(SELECT_EVENT_DTO + " where e.eventStatus = :status and e.sport = :sport")
+    List<EventDTO> findDtoByEventStatusAndSport(@Param("status") EventStatus status, @Param("sport") Sport sport);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_EVENT_DTO + " where e.eventStatus = :status")
+    List<EventDTO> findDtoByEventStatus(@Param("status") EventStatus status);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_EVENT_DTO + " where e.sport = :sport")
+    List<EventDTO> findDtoBySport(@Param("sport") Sport sport);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_EVENT_DTO)
+    List<EventDTO> findAllDtos();
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_EVENT_DTO + " where e.id = :id")
+    Optional<EventDTO> findDtoById(@Param("id") Long id);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_EVENT_DTO + " where e.id in :ids")
+    List<EventDTO> findDtoByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Transactional(readOnly = true)
+    @Query("select e.sport as sport, e.eventStatus as eventStatus, count(e) as eventCount from Event e group by e.sport, e.eventStatus")
+    List<EventStore.SportStatusCount> countBySportAndStatus();
+
+    List<Event> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+    List<Event> findByEventStatusAndIdGreaterThanOrderByIdAsc(EventStatus status, Long id, Limit limit);
+    List<Event> findBySportAndIdGreaterThanOrderByIdAsc(Sport sport, Long id, Limit limit);
+    List<Event> findByEventStatusAndSportAndIdGreaterThanOrderByIdAsc(EventStatus status, Sport sport, Long id, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select e from Event e where (:status is null or e.eventStatus = :status) and (:sport is null or e.sport = :sport) order by e.id")
+    Stream<Event> streamEvents(@Param("status") EventStatus status, @Param("sport") Sport sport);
+
+    @Query("select e.id from Event e where e.eventStatus = :status and e.startTime < :before order by e.id")
+    List<Long> findIdsByEventStatusAndStartTimeBefore(@Param("status") EventStatus status,
+                                                      @Param("before") LocalDateTime before,
+                                                      Limit limit);
+
+    @Modifying
+    @Query("delete from Event e where e.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("update Event e set e.eventStatus = :newStatus, e.version = e.version + 1 " +
+            "where e.id = :id and e.eventStatus = :expectedStatus and e.version = :expectedVersion")
+    int compareAndSetStatus(@Param("id") Long id,
+                            @Param("expectedStatus") EventStatus expectedStatus,
+                            @Param("expectedVersion") Long expectedVersion,
+                            @Param("newStatus") EventStatus newStatus);
 }
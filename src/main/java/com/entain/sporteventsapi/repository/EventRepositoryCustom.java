@@ -0,0 +1,26 @@
+package com.entain.sporteventsapi.repository;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.Event;
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface EventRepositoryCustom {
+    List<EventDTO> findDtoByStartTime(EventStatus status, Sport sport, LocalDateTime from, LocalDateTime to,
+                                      boolean descending, Limit limit);
+
+    List<Long> findIdsBySportAndStartTime(Sport sport, LocalDateTime from, LocalDateTime to);
+
+    List<Event> lockTransitionable(Collection<Long> ids, EventStatus newStatus, LocalDateTime now);
+
+    int transitionStatus(Collection<Long> ids, EventStatus newStatus, LocalDateTime now);
+
+    List<Event> lockStartedInactive(Collection<Long> ids, LocalDateTime now);
+
+    int activateStarted(Collection<Long> ids, LocalDateTime now);
+}
@@ -0,0 +1,151 @@
+package com.entain.sporteventsapi.repository;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.Event;
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.criteria.*;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.entain.sporteventsapi.entity.EventStatus.ACTIVE;
+import static com.entain.sporteventsapi.entity.EventStatus.INACTIVE;
+
+@RequiredArgsConstructor
+public class EventRepositoryCustomImpl implements EventRepositoryCustom {
+    private final EntityManager entityManager;
+
+    // Only the given filters become predicates, so every combination has a (filters..., start_time) index to walk in order
+    @Override
+    @Transactional(readOnly = true)
+    public List<EventDTO> findDtoByStartTime(EventStatus status, Sport sport, LocalDateTime from, LocalDateTime to,
+                                             boolean descending, Limit limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventDTO> query = cb.createQuery(EventDTO.class);
+        Root<Event> root = query.from(Event.class);
+        List<Predicate> predicates = new ArrayList<>();
+        if (status != null) {
+            predicates.add(cb.equal(root.get("eventStatus"), status));
+        }
+        if (sport != null) {
+            predicates.add(cb.equal(root.get("sport"), sport));
+        }
+        if (from != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.<LocalDateTime>get("startTime"), from));
+        }
+        if (to != null) {
+            predicates.add(cb.lessThan(root.<LocalDateTime>get("startTime"), to));
+        }
+        query.select(cb.construct(EventDTO.class, root.get("id"), root.get("name"), root.get("sport"),
+                        root.get("eventStatus"), root.get("startTime"), root.get("version")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(descending
+                        ? List.of(cb.desc(root.get("startTime")), cb.desc(root.get("id")))
+                        : List.of(cb.asc(root.get("startTime")), cb.asc(root.get("id"))));
+        TypedQuery<EventDTO> typedQuery = entityManager.createQuery(query);
+        if (limit.isLimited()) {
+            typedQuery.setMaxResults(limit.max());
+        }
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    public List<Long> findIdsBySportAndStartTime(Sport sport, LocalDateTime from, LocalDateTime to) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Event> root = query.from(Event.class);
+        List<Predicate> predicates = new ArrayList<>();
+        if (sport != null) {
+            predicates.add(cb.equal(root.get("sport"), sport));
+        }
+        if (from != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.<LocalDateTime>get("startTime"), from));
+        }
+        if (to != null) {
+            predicates.add(cb.lessThan(root.<LocalDateTime>get("startTime"), to));
+        }
+        query.select(root.<Long>get("id"))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<Event> lockTransitionable(Collection<Long> ids, EventStatus newStatus, LocalDateTime now) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> query = cb.createQuery(Event.class);
+        Root<Event> root = query.from(Event.class);
+        // Locking in id order keeps concurrent bulk updates from deadlocking each other
+        query.select(root)
+                .where(root.get("id").in(ids), transitionAllowed(cb, root, newStatus, now))
+                .orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+    }
+
+    @Override
+    public int transitionStatus(Collection<Long> ids, EventStatus newStatus, LocalDateTime now) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Event> update = cb.createCriteriaUpdate(Event.class);
+        Root<Event> root = update.from(Event.class);
+        update.set(root.<EventStatus>get("eventStatus"), newStatus)
+                .set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L))
+                .where(root.get("id").in(ids), transitionAllowed(cb, root, newStatus, now));
+        int updated = entityManager.createQuery(update).executeUpdate();
+        // Same semantics as @Modifying(clearAutomatically = true): loaded entities are stale now
+        entityManager.clear();
+        return updated;
+    }
+
+    @Override
+    public List<Event> lockStartedInactive(Collection<Long> ids, LocalDateTime now) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> query = cb.createQuery(Event.class);
+        Root<Event> root = query.from(Event.class);
+        query.select(root)
+                .where(root.get("id").in(ids), started(cb, root, now))
+                .orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+    }
+
+    @Override
+    public int activateStarted(Collection<Long> ids, LocalDateTime now) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Event> update = cb.createCriteriaUpdate(Event.class);
+        Root<Event> root = update.from(Event.class);
+        update.set(root.<EventStatus>get("eventStatus"), ACTIVE)
+                .set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L))
+                .where(root.get("id").in(ids), started(cb, root, now));
+        int updated = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+    private static Predicate started(CriteriaBuilder cb, Root<Event> root, LocalDateTime now) {
+        return cb.and(cb.equal(root.get("eventStatus"), INACTIVE), cb.lessThanOrEqualTo(root.<LocalDateTime>get("startTime"), now));
+    }
+
+    // Mirrors the rules in EventService.updateEventStatus as SQL predicates
+    private static Predicate transitionAllowed(CriteriaBuilder cb, Root<Event> root, EventStatus newStatus, LocalDateTime now) {
+        Path<EventStatus> status = root.get("eventStatus");
+        return switch (newStatus) {
+            case INACTIVE -> status.in(INACTIVE, ACTIVE);
+            case ACTIVE -> cb.or(
+                    cb.equal(status, ACTIVE),
+                    cb.and(cb.equal(status, INACTIVE), cb.greaterThanOrEqualTo(root.<LocalDateTime>get("startTime"), now)));
+            case FINISHED -> cb.equal(status, ACTIVE);
+        };
+    }
+}
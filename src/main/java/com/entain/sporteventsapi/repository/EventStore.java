@@ -0,0 +1,71 @@
+package com.entain.sporteventsapi.repository;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Every read and write of events goes through here. {@code events.store.type} picks the backend, {@code jpa}
+ * (default) or {@code columnar}. Ids are only unique within one store, so the name index, the ETags, the activation
+ * wheel and the statistics are all fed from the store that handed them out. Status and sport filters are optional
+ * wherever they may be null.
+ */
+public interface EventStore {
+    interface SportStatusCount {
+        Sport getSport();
+        EventStatus getEventStatus();
+        long getEventCount();
+    }
+
+    EventDTO save(EventDTO event);
+
+    // Saves in order, in the caller's transaction when there is one
+    List<EventDTO> saveAll(List<EventDTO> events);
+
+    Optional<EventDTO> findById(Long id);
+
+    // In no particular order; unknown ids are left out
+    List<EventDTO> findAllById(Collection<Long> ids);
+
+    List<EventDTO> findAll();
+
+    List<EventDTO> findByEventStatus(EventStatus status);
+
+    List<EventDTO> findBySport(Sport sport);
+
+    List<EventDTO> findByEventStatusAndSport(EventStatus status, Sport sport);
+
+    // Up to limit events with an id above afterId, in id order
+    List<EventDTO> findPage(EventStatus status, Sport sport, long afterId, int limit);
+
+    // Events starting in [from, to), ordered by start time and then id
+    List<EventDTO> findByStartTime(EventStatus status, Sport sport, LocalDateTime from, LocalDateTime to,
+                                   boolean descending, Limit limit);
+
+    // Hands every matching event to the consumer in id order without holding them all at once
+    void forEach(EventStatus status, Sport sport, Consumer<EventDTO> consumer);
+
+    List<Long> findIdsBySportAndStartTime(Sport sport, LocalDateTime from, LocalDateTime to);
+
+    // Applies the change only if the event still has this status and version, and bumps the version if it does
+    boolean compareAndSetStatus(Long id, EventStatus expectedStatus, Long expectedVersion, EventStatus newStatus);
+
+    /**
+     * Moves every given event whose status may change to {@code newStatus} at {@code now}, bumping its version,
+     * and returns those events as they were before the change.
+     */
+    List<EventDTO> transitionStatuses(Collection<Long> ids, EventStatus newStatus, LocalDateTime now);
+
+    // Activates the given INACTIVE events that started by now and returns them as they were before
+    List<EventDTO> activateStarted(Collection<Long> ids, LocalDateTime now);
+
+    // Live and archived events together, for a store that is also an EventArchive
+    List<SportStatusCount> countBySportAndStatus();
+}
@@ -0,0 +1,190 @@
+package com.entain.sporteventsapi.repository;
+
+import com.entain.sporteventsapi.config.ReadsPrimary;
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.Event;
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.entain.sporteventsapi.entity.EventStatus.FINISHED;
+
+@Component
+@ConditionalOnProperty(name = "events.store.type", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaEventStore implements EventStore, EventArchive {
+    // Matches hibernate.jdbc.batch_size so every flush sends full JDBC batches
+    private static final int FLUSH_INTERVAL = 50;
+
+    private final EventRepository repository;
+    private final EventArchiveRepository archiveRepository;
+    private final EntityManager entityManager;
+
+    @Override
+    public EventDTO save(EventDTO event) {
+        return new EventDTO(repository.save(event.convertToEntity()));
+    }
+
+    @Override
+    @Transactional
+    public List<EventDTO> saveAll(List<EventDTO> events) {
+        List<EventDTO> saved = new ArrayList<>(events.size());
+        for (EventDTO event : events) {
+            saved.add(new EventDTO(repository.save(event.convertToEntity())));
+            if (saved.size() % FLUSH_INTERVAL == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<EventDTO> findById(Long id) {
+        return repository.findDtoById(id);
+    }
+
+    @Override
+    public List<EventDTO> findAllById(Collection<Long> ids) {
+        return repository.findDtoByIdIn(ids);
+    }
+
+    // The listings fill the listing cache, and the range and archive listings go out under a listing ETag, so
+    // none of them may come from a replica that has not seen a change the cache generation already counts
+    @Override
+    @ReadsPrimary
+    public List<EventDTO> findAll() {
+        return repository.findAllDtos();
+    }
+
+    @Override
+    @ReadsPrimary
+    public List<EventDTO> findByEventStatus(EventStatus status) {
+        return repository.findDtoByEventStatus(status);
+    }
+
+    @Override
+    @ReadsPrimary
+    public List<EventDTO> findBySport(Sport sport) {
+        return repository.findDtoBySport(sport);
+    }
+
+    @Override
+    @ReadsPrimary
+    public List<EventDTO> findByEventStatusAndSport(EventStatus status, Sport sport) {
+        return repository.findDtoByEventStatusAndSport(status, sport);
+    }
+
+    @Override
+    public List<EventDTO> findPage(EventStatus status, Sport sport, long afterId, int limit) {
+        List<Event> events;
+        if (status != null && sport != null) {
+            events = repository.findByEventStatusAndSportAndIdGreaterThanOrderByIdAsc(status, sport, afterId, Limit.of(limit));
+        } else if (status != null) {
+            events = repository.findByEventStatusAndIdGreaterThanOrderByIdAsc(status, afterId, Limit.of(limit));
+        } else if (sport != null) {
+            events = repository.findBySportAndIdGreaterThanOrderByIdAsc(sport, afterId, Limit.of(limit));
+        } else {
+            events = repository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+        }
+        return events.stream()
+                .map(EventDTO::new)
+                .toList();
+    }
+
+    @Override
+    @ReadsPrimary
+    public List<EventDTO> findByStartTime(EventStatus status, Sport sport, LocalDateTime from, LocalDateTime to,
+                                          boolean descending, Limit limit) {
+        return repository.findDtoByStartTime(status, sport, from, to, descending, limit);
+    }
+
+    // Keeps the persistence context from growing with the result set
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(EventStatus status, Sport sport, Consumer<EventDTO> consumer) {
+        try (Stream<Event> events = repository.streamEvents(status, sport)) {
+            events.forEach(event -> {
+                consumer.accept(new EventDTO(event));
+                entityManager.detach(event);
+            });
+        }
+    }
+
+    @Override
+    public List<Long> findIdsBySportAndStartTime(Sport sport, LocalDateTime from, LocalDateTime to) {
+        return repository.findIdsBySportAndStartTime(sport, from, to);
+    }
+
+    @Override
+    public boolean compareAndSetStatus(Long id, EventStatus expectedStatus, Long expectedVersion, EventStatus newStatus) {
+        return repository.compareAndSetStatus(id, expectedStatus, expectedVersion, newStatus) > 0;
+    }
+
+    @Override
+    @Transactional
+    public List<EventDTO> transitionStatuses(Collection<Long> ids, EventStatus newStatus, LocalDateTime now) {
+        List<EventDTO> transitionable = repository.lockTransitionable(ids, newStatus, now).stream()
+                .map(EventDTO::new)
+                .toList();
+        if (!transitionable.isEmpty()) {
+            repository.transitionStatus(transitionable.stream().map(EventDTO::getId).toList(), newStatus, now);
+        }
+        return transitionable;
+    }
+
+    @Override
+    @Transactional
+    public List<EventDTO> activateStarted(Collection<Long> ids, LocalDateTime now) {
+        List<EventDTO> started = repository.lockStartedInactive(ids, now).stream()
+                .map(EventDTO::new)
+                .toList();
+        if (!started.isEmpty()) {
+            repository.activateStarted(started.stream().map(EventDTO::getId).toList(), now);
+        }
+        return started;
+    }
+
+    @Override
+    @Transactional
+    public List<Long> archiveFinished(LocalDateTime cutoff, int limit, LocalDateTime archivedAt) {
+        List<Long> ids = repository.findIdsByEventStatusAndStartTimeBefore(FINISHED, cutoff, Limit.of(limit));
+        if (!ids.isEmpty()) {
+            archiveRepository.copyFromEvents(ids, archivedAt);
+            repository.deleteByIdIn(ids);
+        }
+        return ids;
+    }
+
+    @Override
+    public Optional<EventDTO> findArchivedById(Long id) {
+        return archiveRepository.findDtoById(id);
+    }
+
+    @Override
+    @ReadsPrimary
+    public List<EventDTO> findArchived(Sport sport) {
+        return sport != null ? archiveRepository.findDtoBySport(sport) : archiveRepository.findAllDtos();
+    }
+
+    // Seeds the statistics, which every later change only moves along
+    @Override
+    @ReadsPrimary
+    public List<SportStatusCount> countBySportAndStatus() {
+        return Stream.concat(repository.countBySportAndStatus().stream(), archiveRepository.countBySportAndStatus().stream())
+                .toList();
+    }
+}
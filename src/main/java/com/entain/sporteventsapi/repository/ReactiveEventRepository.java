@@ -0,0 +1,103 @@
+package com.entain.sporteventsapi.repository;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Non-blocking access to the events tables over R2DBC, used by the reactive stack only. Rows map straight to
+ * {@link EventDTO}, the same shape the JPA projections produce.
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveEventRepository {
+    private static final String COLUMNS = "id, name, sport, event_status, start_time, version";
+    private static final int FETCH_SIZE = 256;
+
+    private final DatabaseClient client;
+
+    public ReactiveEventRepository(ConnectionFactory connectionFactory) {
+        this.client = DatabaseClient.create(connectionFactory);
+    }
+
+    // Rows are fetched as the subscriber requests them, not read into a list first
+    public Flux<EventDTO> findAll(EventStatus status, Sport sport) {
+        List<String> conditions = new ArrayList<>(2);
+        if (status != null) {
+            conditions.add("event_status = :status");
+        }
+        if (sport != null) {
+            conditions.add("sport = :sport");
+        }
+        String sql = "SELECT " + COLUMNS + " FROM events"
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions));
+        DatabaseClient.GenericExecuteSpec spec = client.sql(sql)
+                .filter(statement -> statement.fetchSize(FETCH_SIZE));
+        if (status != null) {
+            spec = spec.bind("status", status.name());
+        }
+        if (sport != null) {
+            spec = spec.bind("sport", sport.name());
+        }
+        return spec.map(ReactiveEventRepository::toDto).all();
+    }
+
+    public Mono<EventDTO> findById(Long id) {
+        return client.sql("SELECT " + COLUMNS + " FROM events WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveEventRepository::toDto)
+                .one();
+    }
+
+    public Mono<EventDTO> findArchivedById(Long id) {
+        return client.sql("SELECT " + COLUMNS + " FROM events_archive WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveEventRepository::toDto)
+                .one();
+    }
+
+    // Takes ids from the same sequence Hibernate allocates from, so the two stacks never hand out the same id
+    public Mono<Long> insert(String name, Sport sport, EventStatus status, LocalDateTime startTime) {
+        return client.sql("SELECT NEXT VALUE FOR events_seq")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .flatMap(id -> client.sql("INSERT INTO events (id, name, sport, event_status, start_time, version) " +
+                                "VALUES (:id, :name, :sport, :status, :startTime, 0)")
+                        .bind("id", id)
+                        .bind("name", name)
+                        .bind("sport", sport.name())
+                        .bind("status", status.name())
+                        .bind("startTime", startTime)
+                        .fetch()
+                        .rowsUpdated()
+                        .thenReturn(id));
+    }
+
+    public Mono<Long> compareAndSetStatus(Long id, EventStatus expectedStatus, Long expectedVersion, EventStatus newStatus) {
+        return client.sql("UPDATE events SET event_status = :newStatus, version = version + 1 " +
+                        "WHERE id = :id AND event_status = :expectedStatus AND version = :expectedVersion")
+                .bind("newStatus", newStatus.name())
+                .bind("id", id)
+                .bind("expectedStatus", expectedStatus.name())
+                .bind("expectedVersion", expectedVersion)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static EventDTO toDto(Readable row) {
+        return new EventDTO(row.get("id", Long.class), row.get("name", String.class), row.get("sport", String.class),
+                row.get("event_status", String.class), row.get("start_time", LocalDateTime.class),
+                row.get("version", Long.class));
+    }
+}
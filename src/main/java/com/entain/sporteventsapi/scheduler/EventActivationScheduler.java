@@ -0,0 +1,100 @@
+package com.entain.sporteventsapi.scheduler;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.service.EventChange;
+import com.entain.sporteventsapi.service.EventService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.entain.sporteventsapi.entity.EventStatus.INACTIVE;
+
+/**
+ * Activates INACTIVE events once their start time arrives. INACTIVE events are loaded into a
+ * {@link TimingWheel} at startup, overdue ones included, and kept in sync from {@link EventChange}s,
+ * so the database is only touched for the events that are actually due.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "events.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class EventActivationScheduler {
+    private final EventService eventService;
+    private final TimingWheel wheel;
+    private final long tickMillis;
+    private final int batchSize;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            runnable -> Thread.ofPlatform().name("event-activation").daemon().unstarted(runnable));
+
+    public EventActivationScheduler(EventService eventService,
+                                    @Value("${events.scheduler.tick-millis:1000}") long tickMillis,
+                                    @Value("${events.scheduler.wheel-size:4096}") int wheelSize,
+                                    @Value("${events.scheduler.batch-size:500}") int batchSize) {
+        this.eventService = eventService;
+        this.tickMillis = tickMillis;
+        this.batchSize = batchSize;
+        this.wheel = new TimingWheel(tickMillis, wheelSize, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        // Events that started while the application was down land in the first tick and are activated there
+        eventService.forEachInactiveEvent(event -> {
+            if (event.getStartTime() != null) {
+                schedule(event);
+            }
+        });
+        log.info("Scheduled {} inactive events for activation", wheel.size());
+        executor.scheduleAtFixedRate(this::activateDueEvents, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        EventDTO event = change.event();
+        // Events without a start time are never due, so there is nothing to schedule for them
+        if (INACTIVE.name().equals(event.getEventStatus()) && event.getStartTime() != null
+                && event.getStartTime().isAfter(LocalDateTime.now())) {
+            schedule(event);
+        } else {
+            wheel.cancel(event.getId());
+        }
+    }
+
+    public int pendingCount() {
+        return wheel.size();
+    }
+
+    void activateDueEvents() {
+        long nowMillis = System.currentTimeMillis();
+        List<Long> due = wheel.advance(nowMillis);
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<Long> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            try {
+                eventService.activateStartedEvents(batch);
+            } catch (RuntimeException e) {
+                log.error("Failed to activate {} started events, retrying on the next tick", batch.size(), e);
+                batch.forEach(id -> wheel.schedule(id, nowMillis));
+            }
+        }
+    }
+
+    private void schedule(EventDTO event) {
+        wheel.schedule(event.getId(), event.getStartTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+}
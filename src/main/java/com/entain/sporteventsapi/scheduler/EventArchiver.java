@@ -0,0 +1,100 @@
+package com.entain.sporteventsapi.scheduler;
+
+import com.entain.sporteventsapi.service.EventService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.AllNestedConditions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically moves FINISHED events whose start time is older than {@code events.archive.min-age} out of
+ * the live table, one batch per transaction, until a run finds nothing left to move. It only exists with a store
+ * that is an {@link com.entain.sporteventsapi.repository.EventArchive}, which today is the JPA one.
+ */
+@Slf4j
+@Component
+@Conditional(EventArchiver.ArchiveAvailable.class)
+public class EventArchiver {
+    private final EventService eventService;
+    private final Duration minAge;
+    private final int batchSize;
+    private final long intervalMillis;
+    private final Counter archived;
+    private final Timer runTimer;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            runnable -> Thread.ofPlatform().name("event-archiver").daemon().unstarted(runnable));
+
+    public EventArchiver(EventService eventService, MeterRegistry meterRegistry,
+                         @Value("${events.archive.min-age:P30D}") Duration minAge,
+                         @Value("${events.archive.batch-size:1000}") int batchSize,
+                         @Value("${events.archive.interval-millis:60000}") long intervalMillis) {
+        this.eventService = eventService;
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+        this.intervalMillis = intervalMillis;
+        this.archived = Counter.builder("events.archive.archived")
+                .description("FINISHED events moved to the archive table")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("events.archive.run")
+                .description("Duration of one archival run")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.scheduleWithFixedDelay(this::archive, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    void archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+        long start = System.nanoTime();
+        long total = 0;
+        try {
+            int moved;
+            do {
+                moved = eventService.archiveFinishedEvents(cutoff, batchSize);
+                archived.increment(moved);
+                total += moved;
+            } while (moved == batchSize);
+        } catch (RuntimeException e) {
+            log.error("Archival run failed after moving {} events, retrying on the next run", total, e);
+        }
+        runTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (total > 0) {
+            log.info("Archived {} FINISHED events that started before {}", total, cutoff);
+        }
+    }
+
+    static class ArchiveAvailable extends AllNestedConditions {
+        ArchiveAvailable() {
+            super(ConfigurationPhase.REGISTER_BEAN);
+        }
+
+        @ConditionalOnProperty(name = "events.archive.enabled", havingValue = "true", matchIfMissing = true)
+        static class Enabled {
+        }
+
+        @ConditionalOnProperty(name = "events.store.type", havingValue = "jpa", matchIfMissing = true)
+        static class JpaStore {
+        }
+    }
+}
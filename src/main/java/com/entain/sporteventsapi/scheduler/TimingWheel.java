@@ -0,0 +1,104 @@
+package com.entain.sporteventsapi.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hashed timing wheel of ids keyed by deadline. Scheduling and cancelling are O(1); advancing
+ * only visits the buckets of the elapsed ticks. Ids whose deadline is more than one rotation away
+ * stay in their bucket until a later pass finds them due.
+ */
+public class TimingWheel {
+    private final long tickMillis;
+    private final int mask;
+    private final List<Map<Long, Long>> buckets;
+    private final Map<Long, Integer> bucketById = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private long lastTick;
+
+    public TimingWheel(long tickMillis, int wheelSize, long nowMillis) {
+        if (tickMillis < 1) {
+            throw new IllegalArgumentException("Tick must be at least one millisecond");
+        }
+        if (wheelSize < 1 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new HashMap<>());
+        }
+        this.lastTick = nowMillis / tickMillis;
+    }
+
+    public void schedule(long id, long deadlineMillis) {
+        lock.lock();
+        try {
+            removeLocked(id);
+            // Rounding up guarantees the deadline has passed once its tick is processed;
+            // overdue ids go to the next tick
+            long tick = Math.max(Math.ceilDiv(deadlineMillis, tickMillis), lastTick + 1);
+            int bucket = (int) (tick & mask);
+            buckets.get(bucket).put(id, deadlineMillis);
+            bucketById.put(id, bucket);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean cancel(long id) {
+        lock.lock();
+        try {
+            return removeLocked(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<Long> advance(long nowMillis) {
+        lock.lock();
+        try {
+            long nowTick = nowMillis / tickMillis;
+            long ticks = Math.min(nowTick - lastTick, buckets.size());
+            List<Long> due = new ArrayList<>();
+            for (long tick = lastTick + 1; tick <= lastTick + ticks; tick++) {
+                Iterator<Map.Entry<Long, Long>> entries = buckets.get((int) (tick & mask)).entrySet().iterator();
+                while (entries.hasNext()) {
+                    Map.Entry<Long, Long> entry = entries.next();
+                    if (entry.getValue() <= nowMillis) {
+                        due.add(entry.getKey());
+                        bucketById.remove(entry.getKey());
+                        entries.remove();
+                    }
+                }
+            }
+            lastTick = Math.max(lastTick, nowTick);
+            return due;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return bucketById.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean removeLocked(long id) {
+        Integer bucket = bucketById.remove(id);
+        if (bucket == null) {
+            return false;
+        }
+        buckets.get(bucket).remove(id);
+        return true;
+    }
+}
@@ -0,0 +1,14 @@
+package com.entain.sporteventsapi.service;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.EventStatus;
+
+/**
+ * Published by {@link EventService} for every created event and every applied status change.
+ * {@code previousStatus} is {@code null} for creations.
+ */
+public record EventChange(EventDTO event, EventStatus previousStatus) {
+    public boolean isCreation() {
+        return previousStatus == null;
+    }
+}
@@ -0,0 +1,7 @@
+package com.entain.sporteventsapi.service;
+
+public class EventConflictException extends RuntimeException {
+    public EventConflictException(String message) {
+        super(message);
+    }
+}
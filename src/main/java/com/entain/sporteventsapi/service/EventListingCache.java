@@ -0,0 +1,82 @@
+package com.entain.sporteventsapi.service;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Listing cache with one slot per (status, sport) filter, where a missing filter is its own slot.
+ * Each slot carries a generation that writers bump, so a load racing with an invalidation is never served.
+ */
+@Component
+public class EventListingCache {
+    private static final int SPORT_SLOTS = Sport.values().length + 1;
+    private static final int SLOTS = (EventStatus.values().length + 1) * SPORT_SLOTS;
+
+    private final AtomicReferenceArray<CachedListing> listings = new AtomicReferenceArray<>(SLOTS);
+    private final AtomicLongArray generations = new AtomicLongArray(SLOTS);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public List<EventDTO> get(EventStatus status, Sport sport, Supplier<List<EventDTO>> loader) {
+        int slot = slot(status, sport);
+        long generation = generations.get(slot);
+        CachedListing cached = listings.get(slot);
+        if (cached != null && cached.generation() == generation) {
+            hits.increment();
+            return cached.events();
+        }
+        misses.increment();
+        List<EventDTO> events = loader.get();
+        listings.compareAndSet(slot, cached, new CachedListing(generation, events));
+        return events;
+    }
+
+    public void invalidate(EventStatus status, Sport sport) {
+        invalidateSlot(slot(status, sport));
+        invalidateSlot(slot(status, null));
+        invalidateSlot(slot(null, sport));
+        invalidateSlot(slot(null, null));
+    }
+
+    public void invalidateAll() {
+        for (int slot = 0; slot < SLOTS; slot++) {
+            invalidateSlot(slot);
+        }
+    }
+
+    public long generation(EventStatus status, Sport sport) {
+        return generations.get(slot(status, sport));
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private void invalidateSlot(int slot) {
+        generations.incrementAndGet(slot);
+        if (listings.getAndSet(slot, null) != null) {
+            evictions.increment();
+        }
+    }
+
+    private static int slot(EventStatus status, Sport sport) {
+        int statusIndex = status != null ? status.ordinal() + 1 : 0;
+        int sportIndex = sport != null ? sport.ordinal() + 1 : 0;
+        return statusIndex * SPORT_SLOTS + sportIndex;
+    }
+
+    private record CachedListing(long generation, List<EventDTO> events) {
+    }
+
+    public record CacheStats(long hits, long misses, long evictions) {
+    }
+}
@@ -0,0 +1,257 @@
+package com.entain.sporteventsapi.service;
+
+import com.entain.sporteventsapi.config.ReadsPrimary;
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
+import com.entain.sporteventsapi.repository.EventStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Trigram index over lower-cased event names for substring search. Every event gets a dense document
+ * number in insertion order, so each posting list is a sorted int array and a query intersects the
+ * posting lists of its trigrams, starting from the shortest. Candidates are confirmed against the
+ * stored name because sharing all trigrams does not guarantee containing the query.
+ * Built from the event store at startup and kept in sync from {@link EventChange}s.
+ */
+@Slf4j
+@Component
+public class EventNameIndex {
+    public static final int MIN_QUERY_LENGTH = 3;
+    private static final byte REMOVED = -1;
+
+    private final EventStore store;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Postings> postingsByTrigram = new HashMap<>();
+    private final Map<Long, Integer> documentById = new HashMap<>();
+    private long[] ids = new long[1024];
+    private String[] names = new String[1024];
+    private long[] versions = new long[1024];
+    private byte[] statuses = new byte[1024];
+    private byte[] sports = new byte[1024];
+    private int size;
+    private int removed;
+
+    public EventNameIndex(EventStore store) {
+        this.store = store;
+    }
+
+    @ReadsPrimary
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        store.forEach(null, null, this::index);
+        log.info("Indexed {} event names", size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        index(change.event());
+    }
+
+    public void index(EventDTO event) {
+        long version = event.getVersion() != null ? event.getVersion() : 0L;
+        byte status = (byte) EventStatus.valueOf(event.getEventStatus()).ordinal();
+        byte sport = (byte) Sport.valueOf(event.getSport()).ordinal();
+        // Names are optional; an unnamed event is indexed as empty, so it never matches a query
+        String name = event.getName() != null ? normalize(event.getName()) : "";
+        Set<Long> nameTrigrams = trigrams(name);
+        lock.writeLock().lock();
+        try {
+            Integer document = documentById.get(event.getId());
+            if (document != null) {
+                // The startup load can race with live changes, so an older version never overwrites a newer one
+                if (version >= versions[document]) {
+                    versions[document] = version;
+                    statuses[document] = status;
+                }
+                return;
+            }
+            ensureCapacity();
+            int added = size;
+            ids[added] = event.getId();
+            names[added] = name;
+            versions[added] = version;
+            statuses[added] = status;
+            sports[added] = sport;
+            documentById.put(event.getId(), added);
+            for (long trigram : nameTrigrams) {
+                postingsByTrigram.computeIfAbsent(trigram, key -> new Postings()).add(added);
+            }
+            size = added + 1;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Leaves the document's postings in place until removed documents outnumber live ones, then compacts
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Integer document = documentById.remove(id);
+            if (document != null) {
+                statuses[document] = REMOVED;
+                if (++removed > documentById.size()) {
+                    compact();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of at most {@code limit} events whose name contains {@code query}, ignoring case.
+     * Names starting with the query come first; within each group events keep their insertion order.
+     */
+    public List<Long> search(String query, EventStatus status, Sport sport, int limit) {
+        String normalized = normalize(query);
+        Set<Long> queryTrigrams = trigrams(normalized);
+        if (queryTrigrams.isEmpty()) {
+            return List.of();
+        }
+        List<Long> prefixMatches = new ArrayList<>();
+        List<Long> otherMatches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>(queryTrigrams.size());
+            for (long trigram : queryTrigrams) {
+                Postings postings = postingsByTrigram.get(trigram);
+                if (postings == null) {
+                    return List.of();
+                }
+                lists.add(postings);
+            }
+            lists.sort(Comparator.comparingInt(postings -> postings.size));
+            Postings shortest = lists.get(0);
+            for (int i = 0; i < shortest.size && prefixMatches.size() < limit; i++) {
+                int document = shortest.documents[i];
+                if (!containsAll(lists, document) || !matches(document, status, sport)) {
+                    continue;
+                }
+                String name = names[document];
+                if (name.startsWith(normalized)) {
+                    prefixMatches.add(ids[document]);
+                } else if (otherMatches.size() < limit && name.contains(normalized)) {
+                    otherMatches.add(ids[document]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        prefixMatches.addAll(otherMatches);
+        return prefixMatches.size() > limit ? prefixMatches.subList(0, limit) : prefixMatches;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean matches(int document, EventStatus status, Sport sport) {
+        return statuses[document] != REMOVED
+                && (status == null || statuses[document] == status.ordinal())
+                && (sport == null || sports[document] == sport.ordinal());
+    }
+
+    private static boolean containsAll(List<Postings> lists, int document) {
+        for (int i = 1; i < lists.size(); i++) {
+            Postings postings = lists.get(i);
+            if (Arrays.binarySearch(postings.documents, 0, postings.size, document) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Renumbers the live documents in their original order, so every rebuilt posting list is sorted again
+    private void compact() {
+        int capacity = Math.max(1024, Integer.highestOneBit(Math.max(1, documentById.size())) << 1);
+        long[] liveIds = new long[capacity];
+        String[] liveNames = new String[capacity];
+        long[] liveVersions = new long[capacity];
+        byte[] liveStatuses = new byte[capacity];
+        byte[] liveSports = new byte[capacity];
+        postingsByTrigram.clear();
+        int live = 0;
+        for (int document = 0; document < size; document++) {
+            if (statuses[document] == REMOVED) {
+                continue;
+            }
+            int renumbered = live++;
+            liveIds[renumbered] = ids[document];
+            liveNames[renumbered] = names[document];
+            liveVersions[renumbered] = versions[document];
+            liveStatuses[renumbered] = statuses[document];
+            liveSports[renumbered] = sports[document];
+            documentById.put(ids[document], renumbered);
+            for (long trigram : trigrams(names[document])) {
+                postingsByTrigram.computeIfAbsent(trigram, key -> new Postings()).add(renumbered);
+            }
+        }
+        ids = liveIds;
+        names = liveNames;
+        versions = liveVersions;
+        statuses = liveStatuses;
+        sports = liveSports;
+        size = live;
+        removed = 0;
+    }
+
+    private void ensureCapacity() {
+        if (size < ids.length) {
+            return;
+        }
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        names = Arrays.copyOf(names, capacity);
+        versions = Arrays.copyOf(versions, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        sports = Arrays.copyOf(sports, capacity);
+    }
+
+    private static String normalize(String text) {
+        return text.strip().toLowerCase(Locale.ROOT);
+    }
+
+    // Three UTF-16 chars packed into one long
+    private static Set<Long> trigrams(String text) {
+        Set<Long> trigrams = new HashSet<>();
+        for (int i = 0; i + MIN_QUERY_LENGTH <= text.length(); i++) {
+            trigrams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return trigrams;
+    }
+
+    private static final class Postings {
+        private int[] documents = new int[4];
+        private int size;
+
+        // Documents are numbered in insertion order, so appending keeps every list sorted
+        void add(int document) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+            }
+            documents[size++] = document;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.entain.sporteventsapi.service;
+
+public class EventQueueFullException extends RuntimeException {
+    public EventQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -1,68 +1,342 @@
 package com.entain.sporteventsapi.service;
 
+import com.entain.sporteventsapi.config.ReadsPrimary;
+import com.entain.sporteventsapi.dto.EventBatchErrorDTO;
+import com.entain.sporteventsapi.dto.EventBatchResultDTO;
 import com.entain.sporteventsapi.dto.EventDTO;
-import com.entain.sporteventsapi.entity.Event;
+import com.entain.sporteventsapi.dto.EventPageDTO;
+import com.entain.sporteventsapi.dto.EventStatusBulkResultDTO;
+import com.entain.sporteventsapi.dto.EventStatusBulkUpdateDTO;
 import com.entain.sporteventsapi.entity.EventStatus;
 import com.entain.sporteventsapi.entity.Sport;
-import com.entain.sporteventsapi.repository.EventRepository;
+import com.entain.sporteventsapi.repository.EventArchive;
+import com.entain.sporteventsapi.repository.EventStore;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.entain.sporteventsapi.entity.EventStatus.*;
 
 @Service
 @RequiredArgsConstructor
 public class EventService {
-    private final EventRepository repository;
+    static final int MAX_PAGE_SIZE = 1000;
+    public static final int MAX_BATCH_SIZE = 10_000;
+
+    private final EventStore store;
+    // Empty when the store keeps no archive
+    private final Optional<EventArchive> archive;
+    private final EventListingCache listingCache;
+    private final EventNameIndex nameIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     public EventDTO createEvent(EventDTO eventDTO) {
-        Event event = eventDTO.convertToEntity();
-        event = repository.save(event);
-        return new EventDTO(event);
+        EventDTO createdEvent = store.save(eventDTO);
+        listingCache.invalidate(EventStatus.valueOf(createdEvent.getEventStatus()), Sport.valueOf(createdEvent.getSport()));
+        eventPublisher.publishEvent(new EventChange(createdEvent, null));
+        return createdEvent;
+    }
+
+    @Transactional
+    public EventBatchResultDTO createEvents(List<EventDTO> eventDTOs) throws EventException {
+        if (eventDTOs.size() > MAX_BATCH_SIZE) {
+            throw new EventException("Batch cannot contain more than %s events".formatted(MAX_BATCH_SIZE));
+        }
+        List<EventDTO> valid = new ArrayList<>(eventDTOs.size());
+        List<EventBatchErrorDTO> errors = new ArrayList<>();
+        for (int i = 0; i < eventDTOs.size(); i++) {
+            String error = validate(eventDTOs.get(i));
+            if (error != null) {
+                errors.add(new EventBatchErrorDTO(i, error));
+            } else {
+                valid.add(eventDTOs.get(i));
+            }
+        }
+        List<EventDTO> created = valid.isEmpty() ? List.of() : store.saveAll(valid);
+        created.forEach(event -> eventPublisher.publishEvent(new EventChange(event, null)));
+        afterCommit(() -> created.forEach(event ->
+                listingCache.invalidate(EventStatus.valueOf(event.getEventStatus()), Sport.valueOf(event.getSport()))));
+        return new EventBatchResultDTO(created, errors);
     }
 
     public List<EventDTO> getEvents(String status, String sport) {
-        List<Event> events;
+        EventStatus eventStatus = status != null ? EventStatus.valueOf(status) : null;
+        Sport eventSport = sport != null ? Sport.valueOf(sport) : null;
+        return listingCache.get(eventStatus, eventSport, () -> loadEvents(eventStatus, eventSport));
+    }
+
+    // Archived events are all FINISHED, so other statuses never need the archive
+    public List<EventDTO> getEventsIncludingArchived(String status, String sport) {
+        List<EventDTO> live = getEvents(status, sport);
+        if (archive.isEmpty() || status != null && FINISHED != EventStatus.valueOf(status)) {
+            return live;
+        }
+        List<EventDTO> archived = archive.get().findArchived(sport != null ? Sport.valueOf(sport) : null);
+        List<EventDTO> events = new ArrayList<>(live.size() + archived.size());
+        events.addAll(live);
+        events.addAll(archived);
+        return events;
+    }
+
+    // The finders run in their own read-only transactions on the primary, so cache hits never touch a connection
+    private List<EventDTO> loadEvents(EventStatus status, Sport sport) {
         if (status != null && sport != null) {
-            events = repository.findByEventStatusAndSport(EventStatus.valueOf(status), Sport.valueOf(sport));
+            return store.findByEventStatusAndSport(status, sport);
         } else if (status != null) {
-            events = repository.findByEventStatus(EventStatus.valueOf(status));
+            return store.findByEventStatus(status);
         } else if (sport != null) {
-            events = repository.findBySport(Sport.valueOf(sport));
-        } else {
-            events = repository.findAll();
+            return store.findBySport(sport);
+        }
+        return store.findAll();
+    }
+
+    public List<EventDTO> getEventsByStartTime(String status, String sport, LocalDateTime from, LocalDateTime to,
+                                               String sort) throws EventException {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new EventException("From must not be after to");
+        }
+        Sort.Direction direction = Sort.Direction.fromOptionalString(sort != null ? sort : "ASC")
+                .orElseThrow(() -> new EventException("Unknown sort order %s".formatted(sort)));
+        return store.findByStartTime(status != null ? EventStatus.valueOf(status) : null,
+                sport != null ? Sport.valueOf(sport) : null, from, to, direction.isDescending(), Limit.unlimited());
+    }
+
+    public List<EventDTO> getUpcomingEvents(String status, String sport, int limit) throws EventException {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new EventException("Limit must be between 1 and %s".formatted(MAX_PAGE_SIZE));
         }
-        return events.stream()
-                .map(EventDTO::new)
+        return store.findByStartTime(status != null ? EventStatus.valueOf(status) : null,
+                sport != null ? Sport.valueOf(sport) : null, LocalDateTime.now(), null, false, Limit.of(limit));
+    }
+
+    public List<EventDTO> searchEvents(String query, String status, String sport, int limit) throws EventException {
+        if (query == null || query.strip().length() < EventNameIndex.MIN_QUERY_LENGTH) {
+            throw new EventException("Search query must have at least %s characters".formatted(EventNameIndex.MIN_QUERY_LENGTH));
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new EventException("Limit must be between 1 and %s".formatted(MAX_PAGE_SIZE));
+        }
+        List<Long> ids = nameIndex.search(query, status != null ? EventStatus.valueOf(status) : null,
+                sport != null ? Sport.valueOf(sport) : null, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // The index only ranks ids; the events themselves come from the store so they are never stale
+        Map<Long, EventDTO> found = store.findAllById(ids).stream()
+                .collect(Collectors.toMap(EventDTO::getId, Function.identity()));
+        return ids.stream()
+                .map(found::get)
+                .filter(event -> event != null
+                        && (status == null || status.equals(event.getEventStatus()))
+                        && (sport == null || sport.equals(event.getSport())))
+                .toList();
+    }
+
+    public EventPageDTO getEventsPage(String status, String sport, Long after, int limit) throws EventException {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new EventException("Limit must be between 1 and %s".formatted(MAX_PAGE_SIZE));
+        }
+        long cursor = after != null ? after : 0L;
+        // One extra row tells us whether another page exists without a count query
+        List<EventDTO> events = store.findPage(status != null ? EventStatus.valueOf(status) : null,
+                sport != null ? Sport.valueOf(sport) : null, cursor, limit + 1);
+        List<EventDTO> page = events.stream()
+                .limit(limit)
                 .toList();
+        Long nextCursor = events.size() > limit ? page.get(page.size() - 1).getId() : null;
+        return new EventPageDTO(page, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamEvents(String status, String sport, Consumer<EventDTO> consumer) {
+        store.forEach(status != null ? EventStatus.valueOf(status) : null, sport != null ? Sport.valueOf(sport) : null,
+                consumer);
+    }
+
+    @ReadsPrimary
+    @Transactional(readOnly = true)
+    public void forEachInactiveEvent(Consumer<EventDTO> consumer) {
+        store.forEach(INACTIVE, null, consumer);
     }
 
+    @Transactional(readOnly = true)
     public EventDTO getEventById(Long id) throws EventNotFoundException {
-        return repository.findById(id)
-                .map(EventDTO::new)
+        return store.findById(id)
+                .or(() -> archive.flatMap(eventArchive -> eventArchive.findArchivedById(id)))
                 .orElseThrow(() -> new EventNotFoundException("Event with id %s not found".formatted(id)));
     }
 
-    public EventDTO updateEventStatus(Long id, String newStatus) throws EventException, EventNotFoundException {
-        Event event = repository.findById(id)
+    // A replica that lags would answer 404 for a new event, or a version that makes the update fail as a conflict
+    @ReadsPrimary
+    public EventDTO updateEventStatus(Long id, String newStatus) throws EventException, EventNotFoundException, EventConflictException {
+        EventDTO event = store.findById(id)
                 .orElseThrow(() -> new EventNotFoundException("Event with id %s not found".formatted(id)));
+        EventStatus currentStatus = EventStatus.valueOf(event.getEventStatus());
         EventStatus newEventStatus = EventStatus.valueOf(newStatus);
-        LocalDateTime dateTimeNow = LocalDateTime.now();
+        checkTransition(currentStatus, newEventStatus, event.getStartTime(), LocalDateTime.now());
+        // The rules above were checked against this exact version, so only apply them if nobody changed it since
+        if (!store.compareAndSetStatus(id, currentStatus, event.getVersion(), newEventStatus)) {
+            throw new EventConflictException("Event with id %s was modified concurrently".formatted(id));
+        }
+        Sport sport = Sport.valueOf(event.getSport());
+        listingCache.invalidate(currentStatus, sport);
+        listingCache.invalidate(newEventStatus, sport);
+        EventDTO updatedEvent = new EventDTO(event.getId(), event.getName(), event.getSport(), newEventStatus.name(),
+                event.getStartTime(), event.getVersion() + 1);
+        eventPublisher.publishEvent(new EventChange(updatedEvent, currentStatus));
+        return updatedEvent;
+    }
 
-        if (FINISHED == event.getEventStatus()) {
+    @Transactional
+    public EventStatusBulkResultDTO updateEventStatuses(EventStatusBulkUpdateDTO request) throws EventException {
+        if (request.getNewStatus() == null) {
+            throw new EventException("New status is required");
+        }
+        EventStatus newEventStatus = EventStatus.valueOf(request.getNewStatus());
+        List<Long> candidates = resolveCandidates(request);
+        if (candidates.isEmpty()) {
+            return new EventStatusBulkResultDTO(List.of(), List.of());
+        }
+        List<EventDTO> transitioned = store.transitionStatuses(candidates, newEventStatus, LocalDateTime.now());
+        List<Long> updated = transitioned.stream()
+                .map(EventDTO::getId)
+                .toList();
+        if (!updated.isEmpty()) {
+            afterCommit(listingCache::invalidateAll);
+            transitioned.forEach(event -> eventPublisher.publishEvent(new EventChange(afterTransition(event, newEventStatus),
+                    EventStatus.valueOf(event.getEventStatus()))));
+        }
+        Set<Long> updatedIds = new HashSet<>(updated);
+        List<Long> rejected = candidates.stream()
+                .filter(id -> !updatedIds.contains(id))
+                .toList();
+        return new EventStatusBulkResultDTO(updated, rejected);
+    }
+
+    @Transactional
+    public List<EventDTO> activateStartedEvents(Collection<Long> ids) {
+        List<EventDTO> started = store.activateStarted(ids, LocalDateTime.now());
+        if (started.isEmpty()) {
+            return List.of();
+        }
+        afterCommit(() -> started.forEach(event -> {
+            listingCache.invalidate(INACTIVE, Sport.valueOf(event.getSport()));
+            listingCache.invalidate(ACTIVE, Sport.valueOf(event.getSport()));
+        }));
+        List<EventDTO> activated = started.stream()
+                .map(event -> afterTransition(event, ACTIVE))
+                .toList();
+        activated.forEach(event -> eventPublisher.publishEvent(new EventChange(event, INACTIVE)));
+        return activated;
+    }
+
+    /**
+     * Moves up to {@code batchSize} FINISHED events that started before {@code cutoff} into the archive
+     * table and returns how many were moved; fewer than {@code batchSize} means nothing is left to move.
+     * Without an archive nothing ever is.
+     */
+    @Transactional
+    public int archiveFinishedEvents(LocalDateTime cutoff, int batchSize) {
+        List<Long> ids = archive.map(eventArchive -> eventArchive.archiveFinished(cutoff, batchSize, LocalDateTime.now()))
+                .orElse(List.of());
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        eventPublisher.publishEvent(new EventsArchived(ids));
+        afterCommit(() -> {
+            Arrays.stream(Sport.values()).forEach(sport -> listingCache.invalidate(FINISHED, sport));
+            ids.forEach(nameIndex::remove);
+        });
+        return ids.size();
+    }
+
+    private List<Long> resolveCandidates(EventStatusBulkUpdateDTO request) throws EventException {
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean hasFilter = request.getSport() != null || request.getFrom() != null || request.getTo() != null;
+        if (hasIds == hasFilter) {
+            throw new EventException("Either ids or a sport/start time filter is required");
+        }
+        List<Long> candidates = hasIds
+                ? request.getIds().stream().distinct().toList()
+                : store.findIdsBySportAndStartTime(
+                        request.getSport() != null ? Sport.valueOf(request.getSport()) : null, request.getFrom(), request.getTo());
+        if (candidates.size() > MAX_BATCH_SIZE) {
+            throw new EventException("Bulk update cannot touch more than %s events".formatted(MAX_BATCH_SIZE));
+        }
+        return candidates;
+    }
+
+    // Every applied transition bumps the version by one, so the result can be built from the row that was checked
+    private static EventDTO afterTransition(EventDTO event, EventStatus status) {
+        return new EventDTO(event.getId(), event.getName(), event.getSport(), status.name(),
+                event.getStartTime(), event.getVersion() + 1);
+    }
+
+    // Shared with ReactiveEventService, so both stacks apply the same transition rules
+    static void checkTransition(EventStatus current, EventStatus next, LocalDateTime startTime, LocalDateTime now)
+            throws EventException {
+        if (FINISHED == current) {
             throw new EventException("Finished event cannot be changed");
         }
-        if (INACTIVE == event.getEventStatus() && FINISHED == newEventStatus) {
+        if (INACTIVE == current && FINISHED == next) {
             throw new EventException("Inactive event cannot be changed to finished");
         }
-        if (INACTIVE == event.getEventStatus() && ACTIVE == newEventStatus && event.getStartTime().isBefore(dateTimeNow)) {
+        if (INACTIVE == current && ACTIVE == next && startTime.isBefore(now)) {
             throw new EventException("Cannot activate an event if start time is in the past");
         }
-        event.setEventStatus(newEventStatus);
-        Event updatedEvent = repository.save(event);
-        return new EventDTO(updatedEvent);
+    }
+
+    static String validate(EventDTO eventDTO) {
+        if (eventDTO == null) {
+            return "Event is required";
+        }
+        if (eventDTO.getName() == null || eventDTO.getName().isBlank()) {
+            return "Name is required";
+        }
+        if (!isValid(Sport.values(), eventDTO.getSport())) {
+            return "Unknown sport %s".formatted(eventDTO.getSport());
+        }
+        if (!isValid(EventStatus.values(), eventDTO.getEventStatus())) {
+            return "Unknown status %s".formatted(eventDTO.getEventStatus());
+        }
+        if (eventDTO.getStartTime() == null) {
+            return "Start time is required";
+        }
+        return null;
+    }
+
+    private static boolean isValid(Enum<?>[] values, String name) {
+        return Arrays.stream(values).anyMatch(value -> value.name().equals(name));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
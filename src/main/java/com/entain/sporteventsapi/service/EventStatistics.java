@@ -0,0 +1,84 @@
+package com.entain.sporteventsapi.service;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.dto.EventStatsDTO;
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
+import com.entain.sporteventsapi.repository.EventStore;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Event counts per (sport, status), live and archived together, seeded from the event store before the application
+ * takes traffic and then moved along by every committed {@link EventChange}, so reading them never touches the store.
+ * Archival only moves events out of the live set and leaves the counts as they are.
+ */
+@Slf4j
+@Component
+public class EventStatistics {
+    private static final int STATUSES = EventStatus.values().length;
+
+    private final EventStore store;
+    private final LongAdder[] counts = new LongAdder[Sport.values().length * STATUSES];
+
+    public EventStatistics(EventStore store) {
+        this.store = store;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    @PostConstruct
+    public void seed() {
+        store.countBySportAndStatus()
+                .forEach(count -> counts[slot(count.getSport(), count.getEventStatus())].add(count.getEventCount()));
+        log.info("Seeded event statistics with {} events", total());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        EventDTO event = change.event();
+        Sport sport = Sport.valueOf(event.getSport());
+        if (!change.isCreation()) {
+            counts[slot(sport, change.previousStatus())].decrement();
+        }
+        counts[slot(sport, EventStatus.valueOf(event.getEventStatus()))].increment();
+    }
+
+    public long count(Sport sport, EventStatus status) {
+        return counts[slot(sport, status)].sum();
+    }
+
+    public EventStatsDTO snapshot() {
+        long total = 0;
+        Map<String, Map<String, Long>> bySport = new LinkedHashMap<>();
+        for (Sport sport : Sport.values()) {
+            Map<String, Long> byStatus = new LinkedHashMap<>();
+            for (EventStatus status : EventStatus.values()) {
+                long count = count(sport, status);
+                byStatus.put(status.name(), count);
+                total += count;
+            }
+            bySport.put(sport.name(), byStatus);
+        }
+        return new EventStatsDTO(total, bySport);
+    }
+
+    private long total() {
+        long total = 0;
+        for (LongAdder count : counts) {
+            total += count.sum();
+        }
+        return total;
+    }
+
+    private static int slot(Sport sport, EventStatus status) {
+        return sport.ordinal() * STATUSES + status.ordinal();
+    }
+}
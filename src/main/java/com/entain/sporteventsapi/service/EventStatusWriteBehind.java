@@ -0,0 +1,166 @@
+package com.entain.sporteventsapi.service;
+
+import com.entain.sporteventsapi.dto.EventStatusBulkResultDTO;
+import com.entain.sporteventsapi.dto.EventStatusBulkUpdateDTO;
+import com.entain.sporteventsapi.entity.EventStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Asynchronous status updates. Submitted transitions wait in a bounded per-event queue for one flush
+ * interval; a repeat of an event's last pending status joins that transition instead of queueing another.
+ * Each flush applies the first pending transition of every event, grouped by target status, through
+ * {@link EventService#updateEventStatuses}, then the next ones, so the order per event and all transition
+ * rules are kept. Each future completes with {@code true} once its transition is applied or {@code false}
+ * if the rules rejected it.
+ */
+@Slf4j
+@Component
+public class EventStatusWriteBehind {
+    private final EventService eventService;
+    private final int capacity;
+    private final long flushIntervalMillis;
+    private final Timer flushTimer;
+    private final Counter coalesced;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, Deque<Transition>> pending = new LinkedHashMap<>();
+    private int depth;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            runnable -> Thread.ofPlatform().name("event-write-behind").daemon().unstarted(runnable));
+
+    public EventStatusWriteBehind(EventService eventService, MeterRegistry meterRegistry,
+                                  @Value("${events.write-behind.capacity:10000}") int capacity,
+                                  @Value("${events.write-behind.flush-interval-millis:50}") long flushIntervalMillis) {
+        this.eventService = eventService;
+        this.capacity = capacity;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.flushTimer = Timer.builder("events.write-behind.flush")
+                .description("Time to apply one drained set of queued status updates")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("events.write-behind.coalesced")
+                .description("Status updates merged into an already queued transition")
+                .register(meterRegistry);
+        Gauge.builder("events.write-behind.depth", this, EventStatusWriteBehind::depth)
+                .description("Status transitions waiting to be flushed")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        executor.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(flushIntervalMillis * 10, TimeUnit.MILLISECONDS);
+        flush();
+    }
+
+    public CompletableFuture<Boolean> submit(Long id, String newStatus) throws EventQueueFullException {
+        EventStatus status = EventStatus.valueOf(newStatus);
+        lock.lock();
+        try {
+            Deque<Transition> transitions = pending.get(id);
+            Transition last = transitions != null ? transitions.peekLast() : null;
+            if (last != null && last.status == status) {
+                coalesced.increment();
+                return last.future.copy();
+            }
+            if (depth >= capacity) {
+                throw new EventQueueFullException("Status update queue is full, retry later");
+            }
+            Transition transition = new Transition(status);
+            pending.computeIfAbsent(id, key -> new ArrayDeque<>()).addLast(transition);
+            depth++;
+            return transition.future.copy();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int depth() {
+        lock.lock();
+        try {
+            return depth;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void flush() {
+        Map<Long, Deque<Transition>> drained;
+        lock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            drained = new LinkedHashMap<>(pending);
+            pending.clear();
+            depth = 0;
+        } finally {
+            lock.unlock();
+        }
+        long start = System.nanoTime();
+        while (!drained.isEmpty()) {
+            Map<EventStatus, Map<Long, Transition>> round = new EnumMap<>(EventStatus.class);
+            Iterator<Map.Entry<Long, Deque<Transition>>> entries = drained.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<Long, Deque<Transition>> entry = entries.next();
+                Transition transition = entry.getValue().pollFirst();
+                round.computeIfAbsent(transition.status, key -> new LinkedHashMap<>()).put(entry.getKey(), transition);
+                if (entry.getValue().isEmpty()) {
+                    entries.remove();
+                }
+            }
+            round.forEach(this::apply);
+        }
+        flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private void apply(EventStatus status, Map<Long, Transition> transitions) {
+        List<Long> ids = new ArrayList<>(transitions.keySet());
+        for (int from = 0; from < ids.size(); from += EventService.MAX_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + EventService.MAX_BATCH_SIZE, ids.size()));
+            try {
+                EventStatusBulkResultDTO result = eventService.updateEventStatuses(
+                        new EventStatusBulkUpdateDTO(batch, null, null, null, status.name()));
+                result.getUpdated().forEach(id -> transitions.get(id).future.complete(true));
+                result.getRejected().forEach(id -> transitions.get(id).future.complete(false));
+            } catch (RuntimeException e) {
+                log.error("Failed to apply {} queued status updates to {}", batch.size(), status, e);
+                batch.forEach(id -> transitions.get(id).future.completeExceptionally(e));
+            }
+        }
+    }
+
+    private static final class Transition {
+        private final EventStatus status;
+        private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+
+        Transition(EventStatus status) {
+            this.status = status;
+        }
+    }
+}
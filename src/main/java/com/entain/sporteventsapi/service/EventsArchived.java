@@ -0,0 +1,9 @@
+package com.entain.sporteventsapi.service;
+
+import java.util.List;
+
+/**
+ * Published by {@link EventService} for every batch of events moved from the live table into the archive.
+ */
+public record EventsArchived(List<Long> ids) {
+}
@@ -0,0 +1,81 @@
+package com.entain.sporteventsapi.service;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
+import com.entain.sporteventsapi.repository.ReactiveEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * The non-blocking counterpart of {@link EventService} for the reactive stack. Every write is a single statement,
+ * so no transaction is needed: status changes are a compare-and-set on status and version, exactly as in
+ * {@link EventService#updateEventStatus}. Writes still invalidate the listing cache and publish {@link EventChange},
+ * so the scheduler, name index and statistics stay in sync whichever stack made the change.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveEventService {
+    private final ReactiveEventRepository repository;
+    private final EventListingCache listingCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public Flux<EventDTO> getEvents(String status, String sport) {
+        return Flux.defer(() -> repository.findAll(status != null ? EventStatus.valueOf(status) : null,
+                sport != null ? Sport.valueOf(sport) : null));
+    }
+
+    public Mono<EventDTO> getEventById(Long id) {
+        return repository.findById(id)
+                .switchIfEmpty(Mono.defer(() -> repository.findArchivedById(id)))
+                .switchIfEmpty(Mono.error(() -> new EventNotFoundException("Event with id %s not found".formatted(id))));
+    }
+
+    public Mono<EventDTO> createEvent(EventDTO eventDTO) {
+        String error = EventService.validate(eventDTO);
+        if (error != null) {
+            return Mono.error(new EventException(error));
+        }
+        Sport sport = Sport.valueOf(eventDTO.getSport());
+        EventStatus status = EventStatus.valueOf(eventDTO.getEventStatus());
+        return repository.insert(eventDTO.getName(), sport, status, eventDTO.getStartTime())
+                .map(id -> new EventDTO(id, eventDTO.getName(), sport.name(), status.name(), eventDTO.getStartTime(), 0L))
+                .doOnNext(created -> {
+                    listingCache.invalidate(status, sport);
+                    eventPublisher.publishEvent(new EventChange(created, null));
+                });
+    }
+
+    public Mono<EventDTO> updateEventStatus(Long id, String newStatus) {
+        return Mono.defer(() -> {
+            EventStatus newEventStatus = EventStatus.valueOf(newStatus);
+            return repository.findById(id)
+                    .switchIfEmpty(Mono.error(() -> new EventNotFoundException("Event with id %s not found".formatted(id))))
+                    .flatMap(event -> transition(event, newEventStatus));
+        });
+    }
+
+    private Mono<EventDTO> transition(EventDTO event, EventStatus newStatus) {
+        EventStatus current = EventStatus.valueOf(event.getEventStatus());
+        EventService.checkTransition(current, newStatus, event.getStartTime(), LocalDateTime.now());
+        // The rules above were checked against this exact version, so only apply them if nobody changed it since
+        return repository.compareAndSetStatus(event.getId(), current, event.getVersion(), newStatus)
+                .flatMap(updated -> updated == 0
+                        ? Mono.error(new EventConflictException("Event with id %s was modified concurrently".formatted(event.getId())))
+                        : Mono.just(new EventDTO(event.getId(), event.getName(), event.getSport(), newStatus.name(),
+                        event.getStartTime(), event.getVersion() + 1)))
+                .doOnNext(updated -> {
+                    Sport sport = Sport.valueOf(event.getSport());
+                    listingCache.invalidate(current, sport);
+                    listingCache.invalidate(newStatus, sport);
+                    eventPublisher.publishEvent(new EventChange(updated, current));
+                });
+    }
+}
@@ -0,0 +1,7 @@
+CREATE TABLE events (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name         VARCHAR(255),
+    sport        VARCHAR(32),
+    event_status VARCHAR(32),
+    start_time   TIMESTAMP(6)
+);
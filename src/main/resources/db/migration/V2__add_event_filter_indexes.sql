@@ -0,0 +1,2 @@
+CREATE INDEX idx_events_status_sport_start_time ON events (event_status, sport, start_time);
+CREATE INDEX idx_events_sport_start_time ON events (sport, start_time);
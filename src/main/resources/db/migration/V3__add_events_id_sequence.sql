@@ -0,0 +1,7 @@
+-- Pooled sequence so Hibernate can assign ids up front and batch the INSERTs. It replaces the V1 identity as the
+-- only id source, so plain SQL inserts draw from it too, and starts past every id already in use.
+CREATE SEQUENCE events_seq START WITH 1 INCREMENT BY 50;
+ALTER TABLE events ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE events ALTER COLUMN id SET DEFAULT NEXT VALUE FOR events_seq;
+-- Hibernate's pooled optimizer hands out the 50 ids ending at the value it draws, hence the + 50
+ALTER SEQUENCE events_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM events);
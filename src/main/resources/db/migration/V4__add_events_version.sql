@@ -0,0 +1 @@
+ALTER TABLE events ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
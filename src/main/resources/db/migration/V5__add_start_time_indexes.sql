@@ -0,0 +1,2 @@
+CREATE INDEX idx_events_start_time ON events (start_time);
+CREATE INDEX idx_events_status_start_time ON events (event_status, start_time);
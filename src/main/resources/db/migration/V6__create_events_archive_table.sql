@@ -0,0 +1,10 @@
+CREATE TABLE events_archive (
+    id           BIGINT PRIMARY KEY,
+    name         VARCHAR(255),
+    sport        VARCHAR(32),
+    event_status VARCHAR(32),
+    start_time   TIMESTAMP(6),
+    version      BIGINT DEFAULT 0 NOT NULL,
+    archived_at  TIMESTAMP(6) NOT NULL
+);
+CREATE INDEX idx_events_archive_sport_start_time ON events_archive (sport, start_time);
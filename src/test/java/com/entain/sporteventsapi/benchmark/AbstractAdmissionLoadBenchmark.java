@@ -0,0 +1,161 @@
+package com.entain.sporteventsapi.benchmark;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
+import com.entain.sporteventsapi.repository.EventRepository;
+import com.entain.sporteventsapi.service.EventListingCache;
+import com.entain.sporteventsapi.service.EventService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * Measures status-update latency on its own and again while a flood of uncached range listings hits the
+ * same server, printing write p50/p99 and how each side's requests were answered. Subclasses only decide
+ * whether admission control is in front of the controller.
+ */
+abstract class AbstractAdmissionLoadBenchmark {
+    private static final int EVENTS = 20_000;
+    private static final int SEED_BATCH = 5_000;
+    private static final int WRITERS = Integer.getInteger("benchmark.writers", 16);
+    private static final int READERS = Integer.getInteger("benchmark.readers", 512);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("benchmark.seconds", 10));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventListingCache listingCache;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private List<Long> ids;
+
+    protected abstract String mode();
+
+    @BeforeEach
+    public void seed() {
+        LocalDateTime start = LocalDateTime.now().plusDays(30);
+        List<Long> created = new ArrayList<>(EVENTS);
+        for (int from = 0; from < EVENTS; from += SEED_BATCH) {
+            List<EventDTO> events = new ArrayList<>(SEED_BATCH);
+            for (int i = from; i < from + SEED_BATCH; i++) {
+                events.add(new EventDTO("Event " + i, Sport.values()[i % Sport.values().length].name(),
+                        EventStatus.INACTIVE.name(), start.plusMinutes(i)));
+            }
+            eventService.createEvents(events).getCreated().forEach(event -> created.add(event.getId()));
+        }
+        ids = created;
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        eventRepository.deleteAllInBatch();
+        listingCache.invalidateAll();
+    }
+
+    @Test
+    void writeLatencyUnderReadOverload() throws Exception {
+        System.out.printf(Locale.ROOT, "%n[%s] %d writers, %d readers, %ds per phase%n",
+                mode(), WRITERS, READERS, DURATION.toSeconds());
+
+        report("writes alone", drive(WRITERS, this::statusUpdate));
+
+        try (ExecutorService flood = Executors.newVirtualThreadPerTaskExecutor()) {
+            // A range listing skips the listing cache, so every read costs a query
+            Future<Result> reads = flood.submit(() -> drive(READERS, i -> HttpRequest.newBuilder(
+                    uri("/api/events?sport=FOOTBALL&from=2000-01-01T00:00:00")).GET().build()));
+            Result writes = drive(WRITERS, this::statusUpdate);
+            report("writes under read flood", writes);
+            report("reads", reads.get());
+        }
+    }
+
+    private HttpRequest statusUpdate(int i) {
+        // ACTIVE <-> INACTIVE is always allowed for future events; 409s from collisions still count as served requests
+        return HttpRequest.newBuilder(uri("/api/events/" + ids.get(i % EVENTS) + "/status?newStatus="
+                        + (i / EVENTS % 2 == 0 ? "ACTIVE" : "INACTIVE")))
+                .PUT(HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    private Result drive(int clients, IntFunction<HttpRequest> requests) throws Exception {
+        Map<Integer, AtomicLong> statuses = new ConcurrentHashMap<>();
+        List<long[]> latencies = new ArrayList<>();
+        long deadline = System.nanoTime() + DURATION.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int c = 0; c < clients; c++) {
+                int clientIndex = c;
+                futures.add(executor.submit(() -> {
+                    long[] samples = new long[1024];
+                    int count = 0;
+                    for (int i = clientIndex; System.nanoTime() < deadline; i += clients) {
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response = client.send(requests.apply(i), HttpResponse.BodyHandlers.discarding());
+                        statuses.computeIfAbsent(response.statusCode(), status -> new AtomicLong()).incrementAndGet();
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = System.nanoTime() - start;
+                    }
+                    return Arrays.copyOf(samples, count);
+                }));
+            }
+            for (Future<long[]> future : futures) {
+                latencies.add(future.get());
+            }
+        }
+        return new Result(latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray(), statuses);
+    }
+
+    private void report(String label, Result result) {
+        long[] all = result.latencies();
+        System.out.printf(Locale.ROOT, "  %-24s %7d requests, p50: %8.2f ms, p99: %8.2f ms, statuses: %s%n",
+                label, all.length, percentile(all, 0.50), percentile(all, 0.99), result.statuses());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)] / 1e6;
+    }
+
+    private record Result(long[] latencies, Map<Integer, AtomicLong> statuses) {
+    }
+}
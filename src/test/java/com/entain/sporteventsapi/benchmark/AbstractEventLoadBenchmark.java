@@ -0,0 +1,171 @@
+package com.entain.sporteventsapi.benchmark;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
+import com.entain.sporteventsapi.repository.EventRepository;
+import com.entain.sporteventsapi.service.EventListingCache;
+import com.entain.sporteventsapi.service.EventService;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * Drives the list and status-update endpoints over real HTTP with many concurrent clients and prints
+ * throughput, latency percentiles and any virtual thread pinning JFR observed on the server side.
+ * Subclasses only decide which execution mode the application runs in.
+ */
+abstract class AbstractEventLoadBenchmark {
+    private static final int EVENTS = 2_000;
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 256);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("benchmark.seconds", 10));
+    private static final Duration PINNING_THRESHOLD = Duration.ofMillis(1);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventListingCache listingCache;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private List<Long> ids;
+
+    protected abstract String mode();
+
+    @BeforeEach
+    public void seed() {
+        LocalDateTime start = LocalDateTime.now().plusDays(30);
+        List<EventDTO> events = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            events.add(new EventDTO("Event " + i, Sport.values()[i % Sport.values().length].name(),
+                    EventStatus.INACTIVE.name(), start.plusMinutes(i)));
+        }
+        ids = eventService.createEvents(events).getCreated().stream().map(EventDTO::getId).toList();
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        eventRepository.deleteAllInBatch();
+        listingCache.invalidateAll();
+    }
+
+    @Test
+    void listEndpoint() throws Exception {
+        run("GET /api/events?limit=50", i -> HttpRequest.newBuilder(uri("/api/events?limit=50&after=" + ids.get(i % EVENTS))).GET().build());
+    }
+
+    @Test
+    void statusUpdateEndpoint() throws Exception {
+        // ACTIVE <-> INACTIVE is always allowed for future events; 409s from collisions still count as served requests
+        run("PUT /api/events/{id}/status", i -> HttpRequest.newBuilder(
+                        uri("/api/events/" + ids.get(i % EVENTS) + "/status?newStatus=" + (i % 2 == 0 ? "ACTIVE" : "INACTIVE")))
+                .PUT(HttpRequest.BodyPublishers.noBody())
+                .build());
+    }
+
+    private void run(String label, IntFunction<HttpRequest> requests) throws Exception {
+        Map<String, Long> pinnedFrames = new ConcurrentHashMap<>();
+        AtomicLong errors = new AtomicLong();
+        List<long[]> latencies = new ArrayList<>();
+        long elapsedNanos;
+        try (RecordingStream recording = new RecordingStream();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(PINNING_THRESHOLD).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", event -> pinnedFrames.merge(
+                    pinningSite(event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of()), 1L, Long::sum));
+            recording.startAsync();
+
+            long deadline = System.nanoTime() + DURATION.toNanos();
+            long start = System.nanoTime();
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                int clientIndex = c;
+                futures.add(clients.submit(() -> drive(requests, clientIndex, deadline, errors)));
+            }
+            for (Future<long[]> future : futures) {
+                latencies.add(future.get());
+            }
+            elapsedNanos = System.nanoTime() - start;
+        }
+
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf(Locale.ROOT, "%n[%s] %s, %d clients, %ds%n  throughput: %.0f req/s, errors: %d%n  p50: %.2f ms, p99: %.2f ms, max: %.2f ms%n",
+                mode(), label, CLIENTS, DURATION.toSeconds(), all.length / (elapsedNanos / 1e9), errors.get(),
+                percentile(all, 0.50), percentile(all, 0.99), all.length > 0 ? all[all.length - 1] / 1e6 : 0.0);
+        if (pinnedFrames.isEmpty()) {
+            System.out.println("  no virtual thread pinning above " + PINNING_THRESHOLD.toMillis() + " ms");
+        } else {
+            pinnedFrames.forEach((frame, count) -> System.out.printf("  pinned %d times at %s%n", count, frame));
+        }
+    }
+
+    private long[] drive(IntFunction<HttpRequest> requests, int clientIndex, long deadline, AtomicLong errors) throws Exception {
+        long[] latencies = new long[1024];
+        int count = 0;
+        for (int i = clientIndex; System.nanoTime() < deadline; i += CLIENTS) {
+            long start = System.nanoTime();
+            HttpResponse<Void> response = client.send(requests.apply(i), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 500) {
+                errors.incrementAndGet();
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = System.nanoTime() - start;
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String pinningSite(List<RecordedFrame> frames) {
+        // The first frame outside the JDK is the code holding the monitor
+        return frames.stream()
+                .filter(frame -> !frame.getMethod().getType().getName().startsWith("java."))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .orElse("<unknown>");
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)] / 1e6;
+    }
+}
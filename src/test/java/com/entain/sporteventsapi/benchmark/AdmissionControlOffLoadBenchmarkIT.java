@@ -0,0 +1,13 @@
+package com.entain.sporteventsapi.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "events.admission.enabled=false")
+class AdmissionControlOffLoadBenchmarkIT extends AbstractAdmissionLoadBenchmark {
+    @Override
+    protected String mode() {
+        return "no admission control";
+    }
+}
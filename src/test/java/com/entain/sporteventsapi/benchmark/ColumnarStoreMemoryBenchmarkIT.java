@@ -0,0 +1,136 @@
+package com.entain.sporteventsapi.benchmark;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
+import com.entain.sporteventsapi.repository.ColumnarEventStore;
+import com.entain.sporteventsapi.repository.EventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Loads the same events three ways and compares the heap each one retains: managed JPA entities inside a
+ * transaction, a list of DTOs, and a {@link ColumnarEventStore}. Also times a status and sport listing on
+ * the DTO list and on the store. Names repeat across events, as fixtures do within a season.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {"events.archive.enabled=false", "events.scheduler.enabled=false"})
+class ColumnarStoreMemoryBenchmarkIT {
+    private static final int ROWS = Integer.getInteger("benchmark.columnar.rows", 200_000);
+    private static final int DISTINCT_NAMES = 5_000;
+    private static final int BATCH_SIZE = 5_000;
+    private static final int RUNS = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Environment environment;
+
+    @AfterEach
+    public void cleanUp() {
+        jdbcTemplate.update("DELETE FROM events");
+    }
+
+    @Test
+    void columnarStoreShouldHoldEventsInLessHeap() {
+        insert();
+
+        long entityBytes = transactionTemplate.execute(status -> retained(() -> eventRepository.findAll()));
+        List<EventDTO> dtos = new ArrayList<>();
+        long dtoBytes = retained(() -> {
+            dtos.addAll(eventRepository.findAllDtos());
+            return dtos;
+        });
+        List<EventDTO> source = eventRepository.findAllDtos();
+        ColumnarEventStore store = new ColumnarEventStore(environment);
+        long columnarBytes = retained(() -> {
+            source.forEach(store::save);
+            return store;
+        });
+        assertEquals(ROWS, store.size());
+
+        System.out.printf(Locale.ROOT, "%n%d events, retained heap per event%n", ROWS);
+        System.out.printf(Locale.ROOT, "  JPA entities  %6.1f bytes%n", (double) entityBytes / ROWS);
+        System.out.printf(Locale.ROOT, "  DTO list      %6.1f bytes%n", (double) dtoBytes / ROWS);
+        System.out.printf(Locale.ROOT, "  columnar      %6.1f bytes%n", (double) columnarBytes / ROWS);
+        System.out.printf(Locale.ROOT, "ACTIVE FOOTBALL listing: %.2f ms over the DTO list, %.2f ms from the store%n",
+                averageMillis(() -> dtos.stream()
+                        .filter(e -> e.getEventStatus().equals("ACTIVE") && e.getSport().equals("FOOTBALL"))
+                        .toList()),
+                averageMillis(() -> store.findByEventStatusAndSport(EventStatus.ACTIVE, Sport.FOOTBALL)));
+
+        assertTrue(columnarBytes < dtoBytes, "the columnar store should retain less than the DTO list");
+    }
+
+    // Heap used once the loader's result is built, minus the heap used before, both measured after a GC;
+    // the entities stay reachable through the persistence context until the transaction ends
+    private static long retained(Supplier<Object> loader) {
+        long before = usedHeap();
+        Object result = loader.get();
+        long after = usedHeap();
+        if (result instanceof List<?> list && list.size() != ROWS) {
+            throw new IllegalStateException("Expected %d events, loaded %d".formatted(ROWS, list.size()));
+        }
+        return after - before;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static double averageMillis(Supplier<List<EventDTO>> listing) {
+        listing.get();
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            listing.get();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / RUNS;
+    }
+
+    private void insert() {
+        Sport[] sports = Sport.values();
+        EventStatus[] statuses = EventStatus.values();
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < ROWS; i++) {
+            batch.add(new Object[]{"Fixture " + i % DISTINCT_NAMES, sports[i % sports.length].name(),
+                    statuses[i % statuses.length].name(), Timestamp.valueOf(start.plusMinutes(i))});
+            if (batch.size() == BATCH_SIZE) {
+                flush(batch);
+            }
+        }
+        flush(batch);
+    }
+
+    private void flush(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO events (name, sport, event_status, start_time) VALUES (?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+}
@@ -0,0 +1,103 @@
+package com.entain.sporteventsapi.benchmark;
+
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
+import com.entain.sporteventsapi.repository.EventArchiveRepository;
+import com.entain.sporteventsapi.repository.EventRepository;
+import com.entain.sporteventsapi.service.EventService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Grows the FINISHED history step by step and times the same live listing query against the events table
+ * before and after archival. Without archival the query cost follows the history; with it, it stays flat.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "events.archive.enabled=false")
+class EventArchiveBenchmarkIT {
+    private static final int LIVE_EVENTS = 2_000;
+    private static final int[] HISTORY_STEPS = {0, 100_000, 400_000};
+    private static final int BATCH_SIZE = 5_000;
+    private static final int RUNS = 50;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventArchiveRepository archiveRepository;
+
+    @AfterEach
+    public void cleanUp() {
+        jdbcTemplate.update("DELETE FROM events");
+        jdbcTemplate.update("DELETE FROM events_archive");
+    }
+
+    @Test
+    void hotQueryLatencyShouldStayFlatAsHistoryGrows() {
+        insert(LIVE_EVENTS, LocalDateTime.now().plusDays(1), false);
+        int history = 0;
+        System.out.printf(Locale.ROOT, "%n%d live events, live FOOTBALL listing%n", LIVE_EVENTS);
+        for (int step : HISTORY_STEPS) {
+            insert(step - history, LocalDateTime.now().minusYears(1), true);
+            history = step;
+            jdbcTemplate.execute("ANALYZE TABLE events");
+            double beforeMillis = averageMillis();
+
+            while (eventService.archiveFinishedEvents(LocalDateTime.now().minusDays(30), 10_000) > 0) {
+                // drain the history in batches, like the scheduled archiver does
+            }
+            jdbcTemplate.execute("ANALYZE TABLE events");
+            double afterMillis = averageMillis();
+
+            assertEquals(LIVE_EVENTS, eventRepository.count());
+            System.out.printf(Locale.ROOT, "  history %7d: %8.2f ms in one table, %8.2f ms after archival (%d archived)%n",
+                    step, beforeMillis, afterMillis, archiveRepository.count());
+        }
+    }
+
+    private double averageMillis() {
+        eventRepository.findDtoBySport(Sport.FOOTBALL);
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            eventRepository.findDtoBySport(Sport.FOOTBALL);
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / RUNS;
+    }
+
+    private void insert(int rows, LocalDateTime start, boolean finished) {
+        Sport[] sports = Sport.values();
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < rows; i++) {
+            EventStatus status = finished ? EventStatus.FINISHED : EventStatus.values()[i % 2];
+            batch.add(new Object[]{"Event " + i, sports[i % sports.length].name(), status.name(),
+                    Timestamp.valueOf(start.plusMinutes(i))});
+            if (batch.size() == BATCH_SIZE) {
+                flush(batch);
+            }
+        }
+        flush(batch);
+    }
+
+    private void flush(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO events (name, sport, event_status, start_time) VALUES (?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+}
@@ -0,0 +1,103 @@
+package com.entain.sporteventsapi.benchmark;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
+import com.entain.sporteventsapi.repository.EventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Tag("benchmark")
+@SpringBootTest
+class EventBatchBenchmarkIT {
+    private static final String URL = "/api/events";
+    private static final int EVENTS = 5_000;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setup() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        eventRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void compareSingleAndBatchCreation() throws Exception {
+        List<EventDTO> events = events();
+        // Warm up both paths so the comparison is not dominated by JIT and pool start-up
+        createOneByOne(events.subList(0, 200));
+        createInBatch(events.subList(0, 200));
+        eventRepository.deleteAllInBatch();
+
+        long singleStart = System.nanoTime();
+        createOneByOne(events);
+        long singleNanos = System.nanoTime() - singleStart;
+        assertEquals(EVENTS, eventRepository.count());
+        eventRepository.deleteAllInBatch();
+
+        long batchStart = System.nanoTime();
+        createInBatch(events);
+        long batchNanos = System.nanoTime() - batchStart;
+        assertEquals(EVENTS, eventRepository.count());
+
+        System.out.printf(Locale.ROOT, "%n%d events%n  POST /api/events:       %8.0f events/s%n  POST /api/events/batch: %8.0f events/s%n",
+                EVENTS, EVENTS / (singleNanos / 1e9), EVENTS / (batchNanos / 1e9));
+    }
+
+    private void createOneByOne(List<EventDTO> events) throws Exception {
+        for (EventDTO event : events) {
+            mockMvc.perform(post(URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(event)))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    private void createInBatch(List<EventDTO> events) throws Exception {
+        mockMvc.perform(post(URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(events)))
+                .andExpect(status().isOk());
+    }
+
+    private List<EventDTO> events() {
+        Sport[] sports = Sport.values();
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<EventDTO> events = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            events.add(new EventDTO("Event " + i, sports[i % sports.length].name(), EventStatus.INACTIVE.name(), start.plusMinutes(i)));
+        }
+        return events;
+    }
+}
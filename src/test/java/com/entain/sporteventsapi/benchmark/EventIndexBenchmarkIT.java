@@ -0,0 +1,96 @@
+package com.entain.sporteventsapi.benchmark;
+
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+// Fixtures use past start times, so the archiver must not move them mid-test
+@SpringBootTest(properties = "events.archive.enabled=false")
+class EventIndexBenchmarkIT {
+    private static final int ROWS = 200_000;
+    private static final int BATCH_SIZE = 5_000;
+    private static final int RUNS = 20;
+
+    private static final String BY_STATUS_AND_SPORT = "SELECT * FROM events %s WHERE event_status = 'ACTIVE' AND sport = 'FOOTBALL' ORDER BY start_time";
+    private static final String BY_STATUS = "SELECT * FROM events %s WHERE event_status = 'FINISHED'";
+    private static final String BY_SPORT = "SELECT * FROM events %s WHERE sport = 'BOXING' ORDER BY start_time";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void seed() {
+        Sport[] sports = Sport.values();
+        EventStatus[] statuses = EventStatus.values();
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < ROWS; i++) {
+            batch.add(new Object[]{"Event " + i, sports[i % sports.length].name(),
+                    statuses[(i / sports.length) % statuses.length].name(), Timestamp.valueOf(start.plusMinutes(i))});
+            if (batch.size() == BATCH_SIZE) {
+                insert(batch);
+            }
+        }
+        insert(batch);
+        jdbcTemplate.execute("ANALYZE TABLE events");
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        jdbcTemplate.update("DELETE FROM events");
+    }
+
+    @Test
+    void filterQueriesShouldUseCompositeIndexes() {
+        compare("status + sport", BY_STATUS_AND_SPORT, "idx_events_status_sport_start_time");
+        // Either index leading with event_status serves this filter since idx_events_status_start_time exists
+        compare("status", BY_STATUS, "idx_events_status_");
+        compare("sport", BY_SPORT, "idx_events_sport_start_time");
+    }
+
+    private void compare(String label, String query, String expectedIndex) {
+        String scanQuery = query.formatted("USE INDEX ()");
+        String indexedQuery = query.formatted("");
+        String scanPlan = plan(scanQuery);
+        String indexedPlan = plan(indexedQuery);
+        double scanMillis = averageMillis(scanQuery);
+        double indexedMillis = averageMillis(indexedQuery);
+
+        System.out.printf(Locale.ROOT, "%n[%s] %d rows%n  without index: %.2f ms%n    %s%n  with index:    %.2f ms%n    %s%n",
+                label, ROWS, scanMillis, scanPlan, indexedMillis, indexedPlan);
+        assertTrue(indexedPlan.toLowerCase(Locale.ROOT).contains(expectedIndex), indexedPlan);
+    }
+
+    private String plan(String query) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + query, String.class);
+    }
+
+    private double averageMillis(String query) {
+        jdbcTemplate.queryForList(query);
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            jdbcTemplate.queryForList(query);
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / RUNS;
+    }
+
+    private void insert(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO events (name, sport, event_status, start_time) VALUES (?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+}
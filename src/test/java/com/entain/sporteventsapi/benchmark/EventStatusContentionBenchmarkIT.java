@@ -0,0 +1,97 @@
+package com.entain.sporteventsapi.benchmark;
+
+import com.entain.sporteventsapi.entity.Event;
+import com.entain.sporteventsapi.entity.Sport;
+import com.entain.sporteventsapi.repository.EventRepository;
+import com.entain.sporteventsapi.service.EventConflictException;
+import com.entain.sporteventsapi.service.EventListingCache;
+import com.entain.sporteventsapi.service.EventService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.entain.sporteventsapi.entity.EventStatus.ACTIVE;
+import static com.entain.sporteventsapi.entity.EventStatus.INACTIVE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Hammers one event with compare-and-set status updates from {@code -Dbenchmark.threads=<n>} threads and prints
+ * the attempts per second and the conflict rate. The version check at the end proves no applied update was lost.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {"events.archive.enabled=false", "events.scheduler.enabled=false"})
+class EventStatusContentionBenchmarkIT {
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 16);
+    private static final int ATTEMPTS_PER_THREAD = Integer.getInteger("benchmark.attempts", 5_000);
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventListingCache listingCache;
+
+    @AfterEach
+    public void cleanUp() {
+        eventRepository.deleteAllInBatch();
+        listingCache.invalidateAll();
+    }
+
+    @Test
+    void measureStatusUpdateThroughputUnderContention() throws Exception {
+        Event event = new Event();
+        event.setName("Contended event");
+        event.setSport(Sport.FOOTBALL);
+        event.setEventStatus(INACTIVE);
+        event.setStartTime(LocalDateTime.now().plusDays(1));
+        Long id = eventRepository.save(event).getId();
+
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int attempt = 0; attempt < ATTEMPTS_PER_THREAD; attempt++) {
+                    try {
+                        eventService.updateEventStatus(id, attempt % 2 == 0 ? ACTIVE.name() : INACTIVE.name());
+                        successes.incrementAndGet();
+                    } catch (EventConflictException e) {
+                        conflicts.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        long startNanos = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        executor.shutdown();
+
+        int attempts = THREADS * ATTEMPTS_PER_THREAD;
+        assertEquals(attempts, successes.get() + conflicts.get());
+        assertEquals(successes.get(), eventRepository.findById(id).orElseThrow().getVersion());
+        System.out.printf(Locale.ROOT, "%n%d threads, %d attempts on one event%n  %8.0f attempts/s%n  %8.0f applied/s%n  %7.1f%% conflicts%n",
+                THREADS, attempts, attempts / (elapsedNanos / 1e9), successes.get() / (elapsedNanos / 1e9),
+                100.0 * conflicts.get() / attempts);
+    }
+}
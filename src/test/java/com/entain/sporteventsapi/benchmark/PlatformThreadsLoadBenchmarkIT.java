@@ -0,0 +1,14 @@
+package com.entain.sporteventsapi.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@Tag("benchmark")
+// Measures the thread model on its own, without admission control shedding the load
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "events.admission.enabled=false")
+class PlatformThreadsLoadBenchmarkIT extends AbstractEventLoadBenchmark {
+    @Override
+    protected String mode() {
+        return "platform threads";
+    }
+}
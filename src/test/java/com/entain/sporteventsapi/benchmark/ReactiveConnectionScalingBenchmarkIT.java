@@ -0,0 +1,131 @@
+package com.entain.sporteventsapi.benchmark;
+
+import com.entain.sporteventsapi.SporteventsapiApplication;
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
+import com.entain.sporteventsapi.service.EventService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Opens {@code benchmark.connections} keep-alive connections against the MVC and the reactive stack in turn, each
+ * client fetching events by id, and prints throughput, errors, peak live threads and peak heap. Both stacks get a
+ * database pool of the same size. The clients run in the same JVM, so the memory and thread figures include them;
+ * the client side is identical for both runs, which keeps the comparison fair.
+ */
+@Tag("benchmark")
+class ReactiveConnectionScalingBenchmarkIT {
+    private static final int EVENTS = 2_000;
+    private static final int CONNECTIONS = Integer.getInteger("benchmark.connections", 10_000);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("benchmark.seconds", 20));
+
+    @Test
+    void compareStacksAtManyConnections() throws Exception {
+        System.out.printf(Locale.ROOT, "%n%d connections, %ds per stack%n", CONNECTIONS, DURATION.toSeconds());
+        measure("mvc", WebApplicationType.SERVLET);
+        measure("reactive", WebApplicationType.REACTIVE);
+    }
+
+    private void measure(String stack, WebApplicationType type) throws Exception {
+        String database = "connections-" + stack;
+        // Passed as arguments rather than default properties, so they win over the reactive profile's database
+        String[] args = {
+                "--server.port=0",
+                "--server.tomcat.max-connections=" + (CONNECTIONS + 1_000),
+                "--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+                "--spring.r2dbc.url=r2dbc:h2:mem:///" + database + "?options=DB_CLOSE_DELAY=-1",
+                "--spring.datasource.hikari.maximum-pool-size=10",
+                "--spring.r2dbc.pool.max-size=10",
+                "--events.admission.enabled=false",
+                "--events.scheduler.enabled=false",
+                "--events.archive.enabled=false",
+                "--logging.level.root=WARN"};
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(SporteventsapiApplication.class).web(type);
+        if (type == WebApplicationType.REACTIVE) {
+            builder.profiles("reactive");
+        }
+        try (ConfigurableApplicationContext context = builder.run(args);
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(Executors.newVirtualThreadPerTaskExecutor())
+                     .build()) {
+            List<Long> ids = seed(context.getBean(EventService.class));
+            int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+            run(stack, client, port, ids);
+        }
+    }
+
+    private void run(String stack, HttpClient client, int port, List<Long> ids) throws Exception {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        System.gc();
+        threads.resetPeakThreadCount();
+        AtomicLong peakHeap = new AtomicLong(memory.getHeapMemoryUsage().getUsed());
+        AtomicLong requests = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + DURATION.toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor()) {
+            sampler.scheduleAtFixedRate(() -> peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max),
+                    0, 100, TimeUnit.MILLISECONDS);
+            List<Future<?>> futures = new ArrayList<>(CONNECTIONS);
+            for (int c = 0; c < CONNECTIONS; c++) {
+                int clientIndex = c;
+                futures.add(clients.submit(() -> {
+                    for (int i = clientIndex; System.nanoTime() < deadline; i += CONNECTIONS) {
+                        URI uri = URI.create("http://localhost:" + port + "/api/events/" + ids.get(i % ids.size()));
+                        try {
+                            HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                                    HttpResponse.BodyHandlers.discarding());
+                            (response.statusCode() == 200 ? requests : errors).incrementAndGet();
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(DURATION.toSeconds() + 120, TimeUnit.SECONDS);
+            }
+            sampler.shutdownNow();
+        }
+        System.out.printf(Locale.ROOT, "  %-8s %10.0f req/s, errors: %d, peak threads: %d, peak heap: %d MB%n",
+                stack, requests.get() / (double) DURATION.toSeconds(), errors.get(), threads.getPeakThreadCount(),
+                peakHeap.get() / (1024 * 1024));
+    }
+
+    private static List<Long> seed(EventService eventService) {
+        LocalDateTime start = LocalDateTime.now().plusDays(30);
+        List<EventDTO> events = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            events.add(new EventDTO("Event " + i, Sport.values()[i % Sport.values().length].name(),
+                    EventStatus.INACTIVE.name(), start.plusMinutes(i)));
+        }
+        return eventService.createEvents(events).getCreated().stream().map(EventDTO::getId).toList();
+    }
+}
@@ -0,0 +1,96 @@
+package com.entain.sporteventsapi.benchmark;
+
+import com.entain.sporteventsapi.SporteventsapiApplication;
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
+import com.entain.sporteventsapi.repository.EventRepository;
+import com.entain.sporteventsapi.service.EventService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures read-only query throughput with zero to three replica pools. Every pool, the primary's included,
+ * is capped at {@code benchmark.pool-size} connections to stand in for the capacity of one database server,
+ * so the added throughput per replica is what routing buys.
+ */
+@Tag("benchmark")
+class ReplicaReadScalingBenchmarkIT {
+    private static final int EVENTS = 2_000;
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 32);
+    private static final int POOL_SIZE = Integer.getInteger("benchmark.pool-size", 2);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("benchmark.seconds", 10));
+
+    @Test
+    void measureReadThroughputPerReplicaCount() throws Exception {
+        System.out.printf(Locale.ROOT, "%n%d clients, %d connections per pool%n", CLIENTS, POOL_SIZE);
+        for (int replicas = 0; replicas <= 3; replicas++) {
+            System.out.printf(Locale.ROOT, "  %d replicas: %10.0f reads/s%n", replicas, measure(replicas));
+        }
+    }
+
+    private double measure(int replicas) throws Exception {
+        String url = "jdbc:h2:mem:scaling" + replicas + ";DB_CLOSE_DELAY=-1";
+        List<String> properties = new ArrayList<>(List.of(
+                "spring.datasource.url=" + url,
+                "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "spring.datasource.hikari.connection-timeout=30000",
+                "events.scheduler.enabled=false",
+                "logging.level.root=WARN"));
+        if (replicas > 0) {
+            properties.add("events.datasource.replica-urls=" + String.join(",", Collections.nCopies(replicas, url)));
+            properties.add("events.datasource.replica-pool-size=" + POOL_SIZE);
+            properties.add("spring.jpa.open-in-view=false");
+        }
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SporteventsapiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(properties.toArray(String[]::new))
+                .run()) {
+            seed(context.getBean(EventService.class));
+            EventRepository repository = context.getBean(EventRepository.class);
+            AtomicLong reads = new AtomicLong();
+            long deadline = System.nanoTime() + DURATION.toNanos();
+            try (ExecutorService executor = Executors.newFixedThreadPool(CLIENTS)) {
+                List<Future<?>> clients = new ArrayList<>();
+                for (int i = 0; i < CLIENTS; i++) {
+                    clients.add(executor.submit(() -> {
+                        while (System.nanoTime() < deadline) {
+                            // Bypasses the listing cache on purpose: every call is one read-only transaction
+                            repository.findDtoByEventStatus(EventStatus.INACTIVE);
+                            reads.incrementAndGet();
+                        }
+                    }));
+                }
+                for (Future<?> client : clients) {
+                    client.get(DURATION.toSeconds() + 60, TimeUnit.SECONDS);
+                }
+            }
+            return reads.get() / (double) DURATION.toSeconds();
+        }
+    }
+
+    private static void seed(EventService eventService) {
+        LocalDateTime start = LocalDateTime.now().plusDays(30);
+        List<EventDTO> events = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            events.add(new EventDTO("Event " + i, Sport.values()[i % Sport.values().length].name(),
+                    EventStatus.INACTIVE.name(), start.plusMinutes(i)));
+        }
+        eventService.createEvents(events);
+    }
+}
@@ -0,0 +1,125 @@
+package com.entain.sporteventsapi.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Launches the application as a separate JVM in each mode and reports the median time from process start to the first
+ * successful {@code GET /api/events}, and the resident set size at that point. Run through
+ * {@code ./gradlew startupBenchmark} (add {@code -Paot} for the AOT row), which builds the jar and the CDS archive
+ * and passes their locations in.
+ */
+@Tag("benchmark")
+class StartupBenchmarkIT {
+    private static final int RUNS = Integer.getInteger("benchmark.runs", 5);
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+    @Test
+    void compareStartupModes() throws Exception {
+        String jar = System.getProperty("benchmark.startup.jar");
+        String cdsDir = System.getProperty("benchmark.startup.cds-dir");
+        assumeTrue(jar != null && cdsDir != null, "run through ./gradlew startupBenchmark");
+        String extractedJar = Path.of(cdsDir, new File(jar).getName()).toString();
+
+        System.out.printf(Locale.ROOT, "%nmedian of %d runs%n", RUNS);
+        measure("fat jar", new File("."), List.of(), jar);
+        measure("extracted + CDS", new File(cdsDir), List.of("-XX:SharedArchiveFile=application.jsa"), extractedJar);
+        if (Boolean.getBoolean("benchmark.startup.aot")) {
+            measure("extracted + CDS + AOT", new File(cdsDir),
+                    List.of("-XX:SharedArchiveFile=application.jsa", "-Dspring.aot.enabled=true"), extractedJar);
+        }
+    }
+
+    private void measure(String mode, File workingDir, List<String> jvmArgs, String jar) throws Exception {
+        long[] millis = new long[RUNS];
+        long[] rssKb = new long[RUNS];
+        for (int run = 0; run < RUNS; run++) {
+            int port = freePort();
+            List<String> command = new ArrayList<>();
+            command.add(ProcessHandle.current().info().command().orElse("java"));
+            command.addAll(jvmArgs);
+            command.addAll(List.of("-jar", jar, "--server.port=" + port, "--logging.level.root=WARN"));
+
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(command)
+                    .directory(workingDir)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            try {
+                awaitFirstListing(process, port);
+                millis[run] = (System.nanoTime() - start) / 1_000_000;
+                rssKb[run] = residentSetKb(process.pid());
+            } finally {
+                process.destroy();
+                process.waitFor();
+            }
+        }
+        System.out.printf(Locale.ROOT, "  %-22s first GET /api/events after %6d ms, RSS %6d MB%n",
+                mode, median(millis), median(rssKb) / 1024);
+    }
+
+    private void awaitFirstListing(Process process, int port) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/events")).GET().build();
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new AssertionError("Application exited with " + process.exitValue());
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("No successful GET /api/events within " + TIMEOUT);
+    }
+
+    // Linux only; other platforms report 0
+    private static long residentSetKb(long pid) throws IOException {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        if (!Files.exists(status)) {
+            return 0;
+        }
+        return Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> line.replaceAll("\\D", ""))
+                .mapToLong(Long::parseLong)
+                .findFirst()
+                .orElse(0);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,16 @@
+package com.entain.sporteventsapi.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@Tag("benchmark")
+@ActiveProfiles("virtual")
+// Measures the thread model on its own, without admission control shedding the load
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "events.admission.enabled=false")
+class VirtualThreadsLoadBenchmarkIT extends AbstractEventLoadBenchmark {
+    @Override
+    protected String mode() {
+        return "virtual threads";
+    }
+}
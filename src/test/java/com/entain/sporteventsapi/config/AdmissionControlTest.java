@@ -0,0 +1,114 @@
+package com.entain.sporteventsapi.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdmissionControlTest {
+    private static final FilterChain OK = (request, response) -> { };
+
+    @Test
+    public void shouldRejectClientOverItsBucketWith429() throws Exception {
+        AdmissionControl admission = admission(new MockEnvironment()
+                .withProperty("events.admission.read.client-rate", "0.5")
+                .withProperty("events.admission.read.client-burst", "2"));
+
+        assertEquals(200, get(admission, "a", OK).getStatus());
+        assertEquals(200, get(admission, "a", OK).getStatus());
+        MockHttpServletResponse limited = get(admission, "a", OK);
+        assertEquals(429, limited.getStatus());
+        assertEquals("2", limited.getHeader("Retry-After"));
+        assertEquals(200, get(admission, "b", OK).getStatus());
+    }
+
+    @Test
+    public void shouldShedReadsOverLimitWhileWritesStillPass() throws Exception {
+        AdmissionControl admission = admission(new MockEnvironment()
+                .withProperty("events.admission.read.initial-limit", "1")
+                .withProperty("events.admission.read.max-limit", "1"));
+
+        // The outer read holds the only read slot while the nested requests arrive
+        MockHttpServletResponse outer = get(admission, "a", (request, response) -> {
+            MockHttpServletResponse shed = get(admission, "b", OK);
+            assertEquals(503, shed.getStatus());
+            assertEquals("1", shed.getHeader("Retry-After"));
+
+            MockHttpServletResponse write = new MockHttpServletResponse();
+            admission.doFilter(new MockHttpServletRequest("PUT", "/api/events/1/status"), write, OK);
+            assertEquals(200, write.getStatus());
+        });
+        assertEquals(200, outer.getStatus());
+        assertEquals(200, get(admission, "b", OK).getStatus());
+    }
+
+    @Test
+    public void shouldNotAdmitLongRunningRequests() throws Exception {
+        AdmissionControl admission = admission(new MockEnvironment()
+                .withProperty("events.admission.read.initial-limit", "1")
+                .withProperty("events.admission.read.max-limit", "1"));
+
+        get(admission, "a", (request, response) -> {
+            MockHttpServletResponse stream = new MockHttpServletResponse();
+            admission.doFilter(new MockHttpServletRequest("GET", "/api/events/stream"), stream, OK);
+            assertEquals(200, stream.getStatus());
+        });
+    }
+
+    @Test
+    public void shouldShrinkLimitAsLatencyGrowsAndRecoverAfterwards() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(50, 1, 100, 2.0);
+        run(limit, 20, TimeUnit.MILLISECONDS.toNanos(1), 10);
+        int healthy = limit.limit();
+        assertTrue(healthy >= 50, "limit " + healthy);
+
+        run(limit, 20, TimeUnit.MILLISECONDS.toNanos(20), 10);
+        int overloaded = limit.limit();
+        assertTrue(overloaded < healthy / 2, "limit " + overloaded);
+
+        run(limit, 40, TimeUnit.MILLISECONDS.toNanos(1), overloaded);
+        assertTrue(limit.limit() > overloaded, "limit " + limit.limit());
+    }
+
+    @Test
+    public void shouldRefillBucketOverTime() {
+        TokenBucket bucket = new TokenBucket(10, 1, 0);
+        assertEquals(0, bucket.tryTake(0));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), bucket.tryTake(0));
+        assertEquals(0, bucket.tryTake(TimeUnit.MILLISECONDS.toNanos(100)));
+    }
+
+    // Completes whole windows of requests with the given latency, keeping up to `concurrency` of them in flight
+    private static void run(AdaptiveConcurrencyLimit limit, int windows, long latencyNanos, int concurrency) {
+        for (int i = 0; i < windows * AdaptiveConcurrencyLimit.WINDOW; i += concurrency) {
+            int admitted = 0;
+            while (admitted < concurrency && limit.tryAcquire()) {
+                admitted++;
+            }
+            for (int j = 0; j < admitted; j++) {
+                limit.release(latencyNanos);
+            }
+        }
+    }
+
+    private static AdmissionControl admission(MockEnvironment environment) {
+        return new AdmissionControl(environment, new SimpleMeterRegistry());
+    }
+
+    private static MockHttpServletResponse get(AdmissionControl admission, String client, FilterChain chain)
+            throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.addHeader(ReadYourWrites.CLIENT_HEADER, client);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        admission.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,65 @@
+package com.entain.sporteventsapi.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class ReplicaRoutingDataSourceTest {
+    private final ReadYourWrites readYourWrites = new ReadYourWrites(60_000);
+    private final ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(mock(DataSource.class),
+            List.of(mock(DataSource.class), mock(DataSource.class)), readYourWrites);
+
+    @Test
+    public void shouldRotateReadsOverReplicas() {
+        assertEquals(List.of(0, 1, 0), List.of(routing.determineCurrentLookupKey(),
+                routing.determineCurrentLookupKey(), routing.determineCurrentLookupKey()));
+    }
+
+    @Test
+    public void shouldPinClientToPrimaryAfterItsWrite() throws Exception {
+        asClient("writer", () -> {
+            readYourWrites.recordWrite();
+            assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+        });
+        asClient("writer", () -> assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey()));
+        asClient("reader", () -> assertNotEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey()));
+    }
+
+    @Test
+    public void shouldReleaseClientOnceWindowPassed() throws Exception {
+        ReadYourWrites noWindow = new ReadYourWrites(-1);
+        ReplicaRoutingDataSource noWindowRouting = new ReplicaRoutingDataSource(mock(DataSource.class),
+                List.of(mock(DataSource.class)), noWindow);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ReadYourWrites.CLIENT_HEADER, "writer");
+        noWindow.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            noWindow.recordWrite();
+            assertEquals(0, noWindowRouting.determineCurrentLookupKey());
+        });
+    }
+
+    @Test
+    public void shouldPinThreadOnlyWhileItReadsPrimary() throws Exception {
+        asClient("reader", () -> {
+            assertTrue(readYourWrites.pinThread());
+            assertFalse(readYourWrites.pinThread());
+            assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+            readYourWrites.unpinThread();
+            assertNotEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+        });
+        asClient("reader", () -> assertNotEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey()));
+    }
+
+    private void asClient(String client, Runnable action) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ReadYourWrites.CLIENT_HEADER, client);
+        readYourWrites.doFilter(request, new MockHttpServletResponse(), (req, res) -> action.run());
+    }
+}
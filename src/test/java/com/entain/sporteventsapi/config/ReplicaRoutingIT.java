@@ -0,0 +1,204 @@
+package com.entain.sporteventsapi.config;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.repository.EventRepository;
+import com.entain.sporteventsapi.service.EventListingCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The replicas profile gives the primary and each replica its own database, so the row a read returns tells
+// which side served it
+@SpringBootTest
+@ActiveProfiles("replicas")
+class ReplicaRoutingIT {
+    private static final String URL = "/api/events";
+    private static final long SEEDED_ID = 900_001L;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventListingCache listingCache;
+
+    @Autowired
+    private ReadYourWrites readYourWrites;
+
+    @Value("${events.datasource.replica-urls}")
+    private List<String> replicaUrls;
+
+    private MockMvc mockMvc;
+    private JdbcTemplate primary;
+    private List<JdbcTemplate> replicas;
+
+    @BeforeEach
+    public void setup() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .addFilters(readYourWrites)
+                .build();
+        primary = new JdbcTemplate(primaryDataSource);
+        replicas = replicaUrls.stream()
+                .map(url -> new JdbcTemplate(new DriverManagerDataSource(url.strip(), "sa", "")))
+                .toList();
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        eventRepository.deleteAll();
+        replicas.forEach(replica -> replica.update("DELETE FROM events"));
+        listingCache.invalidateAll();
+    }
+
+    @Test
+    void shouldServeReadsFromReplicas() throws Exception {
+        assertInstanceOf(LazyConnectionDataSourceProxy.class, dataSource);
+        insert(primary, "Primary copy");
+        replicas.forEach(replica -> insert(replica, "Replica copy"));
+
+        for (int i = 0; i < replicas.size(); i++) {
+            assertEquals("Replica copy", getEvent(SEEDED_ID, "reader").getName());
+        }
+    }
+
+    @Test
+    void shouldKeepReadsOnPrimaryAfterClientsOwnWrite() throws Exception {
+        EventDTO eventDTO = new EventDTO("Replica boxing", "BOXING", "ACTIVE", LocalDateTime.of(2024, 10, 4, 13, 30));
+        MvcResult created = mockMvc.perform(post(URL)
+                        .header(ReadYourWrites.CLIENT_HEADER, "writer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDTO)))
+                .andExpect(status().isOk())
+                .andReturn();
+        Long id = objectMapper.readValue(created.getResponse().getContentAsString(), EventDTO.class).getId();
+
+        // The writer is pinned to the primary, while other clients read replicas that never received the row
+        assertEquals("Replica boxing", getEvent(id, "writer").getName());
+        mockMvc.perform(get(URL + "/" + id)
+                        .header(ReadYourWrites.CLIENT_HEADER, "other-client"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldApplyStatusChangeOnPrimary() throws Exception {
+        insert(primary, "Primary copy");
+        replicas.forEach(replica -> insert(replica, "Replica copy"));
+
+        mockMvc.perform(put(URL + "/" + SEEDED_ID + "/status")
+                        .header(ReadYourWrites.CLIENT_HEADER, "updater")
+                        .param("newStatus", "ACTIVE"))
+                .andExpect(status().isOk());
+
+        assertEquals("ACTIVE", statusOf(primary));
+        replicas.forEach(replica -> assertEquals("INACTIVE", statusOf(replica)));
+        assertEquals("ACTIVE", getEvent(SEEDED_ID, "updater").getEventStatus());
+    }
+
+    @Test
+    void shouldLetAnotherClientUpdateANewEvent() throws Exception {
+        Long id = create("writer", new EventDTO("Replica hockey", "HOCKEY", "INACTIVE", LocalDateTime.now().plusDays(1)));
+
+        // The replicas never receive the row, so the update only finds it if it checks the primary
+        MvcResult updated = mockMvc.perform(put(URL + "/" + id + "/status")
+                        .header(ReadYourWrites.CLIENT_HEADER, "other-client")
+                        .param("newStatus", "ACTIVE"))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals("ACTIVE", objectMapper.readValue(updated.getResponse().getContentAsString(), EventDTO.class).getEventStatus());
+    }
+
+    @Test
+    void shouldNotKeepListingStaleAfterAnotherClientWrites() throws Exception {
+        MvcResult before = mockMvc.perform(get(URL)
+                        .header(ReadYourWrites.CLIENT_HEADER, "reader")
+                        .param("sport", "BASEBALL"))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals(List.of(), readList(before));
+
+        Long id = create("writer", new EventDTO("Replica baseball", "BASEBALL", "ACTIVE", LocalDateTime.of(2024, 10, 4, 13, 30)));
+
+        // The write moved the listing's tag on, so the reader must get the new listing and not an old one under it
+        MvcResult after = mockMvc.perform(get(URL)
+                        .header(ReadYourWrites.CLIENT_HEADER, "reader")
+                        .header(HttpHeaders.IF_NONE_MATCH, before.getResponse().getHeader(HttpHeaders.ETAG))
+                        .param("sport", "BASEBALL"))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals(List.of(id), readList(after).stream().map(EventDTO::getId).toList());
+        mockMvc.perform(get(URL)
+                        .header(ReadYourWrites.CLIENT_HEADER, "reader")
+                        .header(HttpHeaders.IF_NONE_MATCH, after.getResponse().getHeader(HttpHeaders.ETAG))
+                        .param("sport", "BASEBALL"))
+                .andExpect(status().isNotModified());
+    }
+
+    private Long create(String client, EventDTO eventDTO) throws Exception {
+        MvcResult created = mockMvc.perform(post(URL)
+                        .header(ReadYourWrites.CLIENT_HEADER, client)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDTO)))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readValue(created.getResponse().getContentAsString(), EventDTO.class).getId();
+    }
+
+    private List<EventDTO> readList(MvcResult result) throws Exception {
+        return objectMapper.readValue(result.getResponse().getContentAsString(),
+                objectMapper.getTypeFactory().constructCollectionType(List.class, EventDTO.class));
+    }
+
+    private EventDTO getEvent(Long id, String client) throws Exception {
+        MvcResult found = mockMvc.perform(get(URL + "/" + id)
+                        .header(ReadYourWrites.CLIENT_HEADER, client))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readValue(found.getResponse().getContentAsString(), EventDTO.class);
+    }
+
+    private static void insert(JdbcTemplate database, String name) {
+        database.update("INSERT INTO events (id, name, sport, event_status, start_time) VALUES (?, ?, ?, ?, ?)",
+                SEEDED_ID, name, "FOOTBALL", "INACTIVE", Timestamp.valueOf(LocalDateTime.now().plusDays(1)));
+    }
+
+    private static String statusOf(JdbcTemplate database) {
+        return database.queryForObject("SELECT event_status FROM events WHERE id = ?", String.class, SEEDED_ID);
+    }
+}
@@ -0,0 +1,230 @@
+package com.entain.sporteventsapi.controller;
+
+import com.entain.sporteventsapi.dto.EventBatchResultDTO;
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.dto.EventImportResultDTO;
+import com.entain.sporteventsapi.dto.EventPageDTO;
+import com.entain.sporteventsapi.dto.EventStatsDTO;
+import com.entain.sporteventsapi.dto.EventStatusBulkResultDTO;
+import com.entain.sporteventsapi.dto.EventStatusBulkUpdateDTO;
+import com.entain.sporteventsapi.scheduler.EventArchiver;
+import com.entain.sporteventsapi.repository.ColumnarEventStore;
+import com.entain.sporteventsapi.repository.EventArchive;
+import com.entain.sporteventsapi.repository.EventStore;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The store cannot be cleared, so every test works on its own sport and only asserts on the events it created
+@SpringBootTest(properties = "events.scheduler.tick-millis=50")
+@ActiveProfiles("columnar")
+class ColumnarStoreIT {
+    private static final String URL = "/api/events";
+    private static final LocalDateTime DATE_TIME = LocalDateTime.of(2024, 10, 4, 13, 30);
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EventStore store;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setup() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @Test
+    void shouldRunWithoutDatabase() {
+        assertInstanceOf(ColumnarEventStore.class, store);
+        assertEquals(0, context.getBeanNamesForType(DataSource.class).length);
+        // The archiver is enabled by default but needs an archive, which this store does not keep
+        assertEquals(0, context.getBeanNamesForType(EventArchive.class).length);
+        assertEquals(0, context.getBeanNamesForType(EventArchiver.class).length);
+    }
+
+    @Test
+    void shouldListWithoutArchive() throws Exception {
+        EventDTO finished = createAll(List.of(new EventDTO("Done", "OTHER", "FINISHED", DATE_TIME))).get(0);
+
+        List<EventDTO> events = read(mockMvc.perform(get(URL).param("sport", "OTHER").param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andReturn(), new TypeReference<>() {
+        });
+        assertEquals(List.of(finished.getId()), events.stream().map(EventDTO::getId).toList());
+        mockMvc.perform(get(URL + "/" + (finished.getId() + 1_000_000)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldListEventsCreatedInBatchAndByImport() throws Exception {
+        List<EventDTO> batch = List.of(
+                new EventDTO("Batch first", "FOOTBALL", "ACTIVE", DATE_TIME),
+                new EventDTO("Batch second", "FOOTBALL", "INACTIVE", DATE_TIME));
+        EventBatchResultDTO created = read(mockMvc.perform(post(URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andReturn(), new TypeReference<>() {
+        });
+        assertEquals(2, created.getCreated().size());
+
+        EventImportResultDTO imported = read(mockMvc.perform(post(URL + "/import")
+                        .contentType(EventNdjson.MEDIA_TYPE)
+                        .content(objectMapper.writeValueAsString(new EventDTO("Imported", "FOOTBALL", "ACTIVE", DATE_TIME))))
+                .andExpect(status().isOk())
+                .andReturn(), new TypeReference<>() {
+        });
+        assertEquals(1, imported.getImported());
+
+        List<EventDTO> football = read(mockMvc.perform(get(URL).param("sport", "FOOTBALL"))
+                .andExpect(status().isOk())
+                .andReturn(), new TypeReference<>() {
+        });
+        assertEquals(List.of("Batch first", "Batch second", "Imported"), football.stream().map(EventDTO::getName).toList());
+    }
+
+    @Test
+    void shouldPageSearchAndOrderByStartTime() throws Exception {
+        List<EventDTO> created = createAll(List.of(
+                new EventDTO("Columnar derby late", "BOXING", "INACTIVE", DATE_TIME.plusHours(2)),
+                new EventDTO("Columnar derby early", "BOXING", "INACTIVE", DATE_TIME),
+                new EventDTO("Columnar final", "BOXING", "ACTIVE", DATE_TIME.plusHours(1))));
+
+        EventPageDTO firstPage = read(mockMvc.perform(get(URL).param("sport", "BOXING").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andReturn(), new TypeReference<>() {
+        });
+        assertEquals(List.of(created.get(0).getId(), created.get(1).getId()),
+                firstPage.getEvents().stream().map(EventDTO::getId).toList());
+        assertEquals(created.get(1).getId(), firstPage.getNextCursor());
+
+        List<EventDTO> found = read(mockMvc.perform(get(URL + "/search").param("q", "columnar der").param("sport", "BOXING"))
+                .andExpect(status().isOk())
+                .andReturn(), new TypeReference<>() {
+        });
+        assertEquals(List.of(created.get(0).getId(), created.get(1).getId()), found.stream().map(EventDTO::getId).toList());
+
+        List<EventDTO> byStartTime = read(mockMvc.perform(get(URL)
+                        .param("sport", "BOXING")
+                        .param("from", DATE_TIME.toString())
+                        .param("to", DATE_TIME.plusHours(2).toString())
+                        .param("sort", "desc"))
+                .andExpect(status().isOk())
+                .andReturn(), new TypeReference<>() {
+        });
+        assertEquals(List.of("Columnar final", "Columnar derby early"), byStartTime.stream().map(EventDTO::getName).toList());
+    }
+
+    @Test
+    void shouldActivateStartedEventsAndRefreshTheirETag() throws Exception {
+        EventDTO event = createAll(List.of(
+                new EventDTO("Starting soon", "HOCKEY", "INACTIVE", LocalDateTime.now().plusMillis(300)))).get(0);
+        String eTag = mockMvc.perform(get(URL + "/" + event.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!"ACTIVE".equals(store.findById(event.getId()).orElseThrow().getEventStatus())
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals("ACTIVE", store.findById(event.getId()).orElseThrow().getEventStatus());
+        mockMvc.perform(get(URL + "/" + event.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldUpdateStatusesInBulkAndCountThem() throws Exception {
+        EventStatsDTO before = getStats();
+        List<EventDTO> created = createAll(List.of(
+                new EventDTO("Running", "BASKETBALL", "ACTIVE", DATE_TIME),
+                new EventDTO("Not started", "BASKETBALL", "INACTIVE", LocalDateTime.now().plusDays(1))));
+        EventStatusBulkUpdateDTO request = new EventStatusBulkUpdateDTO(
+                created.stream().map(EventDTO::getId).toList(), null, null, null, "FINISHED");
+
+        EventStatusBulkResultDTO result = read(mockMvc.perform(put(URL + "/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn(), new TypeReference<>() {
+        });
+        assertEquals(List.of(created.get(0).getId()), result.getUpdated());
+        assertEquals(List.of(created.get(1).getId()), result.getRejected());
+
+        EventStatsDTO after = getStats();
+        assertEquals(before.getTotal() + 2, after.getTotal());
+        assertEquals(before.getCounts().get("BASKETBALL").get("FINISHED") + 1, after.getCounts().get("BASKETBALL").get("FINISHED"));
+        assertEquals(before.getCounts().get("BASKETBALL").get("ACTIVE"), after.getCounts().get("BASKETBALL").get("ACTIVE"));
+    }
+
+    @Test
+    void shouldStoreEventsWithoutStartTime() throws Exception {
+        EventDTO created = read(mockMvc.perform(post(URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new EventDTO("No start time", "BASEBALL", "INACTIVE", null))))
+                .andExpect(status().isOk())
+                .andReturn(), new TypeReference<>() {
+        });
+        assertNull(created.getStartTime());
+        EventDTO dated = createAll(List.of(new EventDTO("Dated", "BASEBALL", "INACTIVE", DATE_TIME))).get(0);
+
+        // The events around it keep the rows they were given
+        assertEquals(created.getId() + 1, dated.getId());
+        assertEquals("No start time", store.findById(created.getId()).orElseThrow().getName());
+        assertNull(store.findById(created.getId()).orElseThrow().getStartTime());
+        List<EventDTO> byStartTime = read(mockMvc.perform(get(URL)
+                        .param("sport", "BASEBALL")
+                        .param("to", DATE_TIME.plusHours(1).toString()))
+                .andExpect(status().isOk())
+                .andReturn(), new TypeReference<>() {
+        });
+        assertEquals(List.of(dated.getId()), byStartTime.stream().map(EventDTO::getId).toList());
+        assertEquals(List.of(), store.activateStarted(List.of(created.getId()), LocalDateTime.now()));
+    }
+
+    private List<EventDTO> createAll(List<EventDTO> events) throws Exception {
+        EventBatchResultDTO result = read(mockMvc.perform(post(URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(events)))
+                .andExpect(status().isOk())
+                .andReturn(), new TypeReference<>() {
+        });
+        return result.getCreated();
+    }
+
+    private EventStatsDTO getStats() throws Exception {
+        return read(mockMvc.perform(get(URL + "/stats"))
+                .andExpect(status().isOk())
+                .andReturn(), new TypeReference<>() {
+        });
+    }
+
+    private <T> T read(MvcResult result, TypeReference<T> type) throws Exception {
+        return objectMapper.readValue(result.getResponse().getContentAsString(), type);
+    }
+}
@@ -1,31 +1,48 @@
 package com.entain.sporteventsapi.controller;
 
+import com.entain.sporteventsapi.config.EventBinaryModule;
+import com.entain.sporteventsapi.dto.EventBatchErrorDTO;
+import com.entain.sporteventsapi.dto.EventBatchResultDTO;
 import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.dto.EventImportResultDTO;
+import com.entain.sporteventsapi.dto.EventPageDTO;
+import com.entain.sporteventsapi.dto.EventStatsDTO;
+import com.entain.sporteventsapi.dto.EventStatusBulkResultDTO;
+import com.entain.sporteventsapi.dto.EventStatusBulkUpdateDTO;
 import com.entain.sporteventsapi.entity.EventStatus;
 import com.entain.sporteventsapi.entity.Sport;
+import com.entain.sporteventsapi.repository.EventArchiveRepository;
 import com.entain.sporteventsapi.repository.EventRepository;
+import com.entain.sporteventsapi.service.EventListingCache;
+import com.entain.sporteventsapi.service.EventService;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.io.ByteArrayOutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.entain.sporteventsapi.entity.EventStatus.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@SpringBootTest
+// Fixtures use past start times, so the archiver must not move them mid-test
+@SpringBootTest(properties = "events.archive.enabled=false")
 class EventControllerIT {
     private static final String URL = "/api/events";
     @Autowired
@@ -37,6 +54,15 @@ class EventControllerIT {
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private EventListingCache listingCache;
+
+    @Autowired
+    private EventArchiveRepository archiveRepository;
+
+    @Autowired
+    private EventService eventService;
+
     private MockMvc mockMvc;
 
     @BeforeEach
@@ -47,6 +73,8 @@ class EventControllerIT {
     @AfterEach
     public void cleanUp() {
         eventRepository.deleteAll();
+        archiveRepository.deleteAll();
+        listingCache.invalidateAll();
     }
 
     @Test
@@ -69,6 +97,28 @@ class EventControllerIT {
         assertEquals(eventDTO.getStartTime(), createdEvent.getStartTime());
     }
 
+    @Test
+    void shouldCreateEventsInBatch() throws Exception {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 10, 4, 13, 30);
+        List<EventDTO> eventDTOs = List.of(
+                getEvent("Test boxing", Sport.BOXING, ACTIVE, dateTime),
+                new EventDTO("Unknown sport", "CHESS", ACTIVE.name(), dateTime),
+                getEvent("Hockey test", Sport.HOCKEY, INACTIVE, dateTime));
+
+        MvcResult result = mockMvc.perform(post(URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDTOs)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        EventBatchResultDTO batchResult = objectMapper.readValue(result.getResponse().getContentAsString(), EventBatchResultDTO.class);
+        assertEquals(2, batchResult.getCreated().size());
+        assertTrue(batchResult.getCreated().stream().allMatch(event -> event.getId() != null));
+        assertEquals(1, batchResult.getErrors().size());
+        assertEquals(1, batchResult.getErrors().get(0).getIndex());
+        assertEquals(2, eventRepository.count());
+    }
+
     @Test
     void shouldGetEventsBySport() throws Exception {
         LocalDateTime dateTime = LocalDateTime.of(2024, 10, 4, 13, 30);
@@ -148,6 +198,276 @@ class EventControllerIT {
         assertEquals(2, events.size());
     }
 
+    @Test
+    void shouldPageEventsByCursor() throws Exception {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 10, 4, 13, 30);
+        eventRepository.saveAll(List.of(
+                getEvent("First", Sport.BOXING, ACTIVE, dateTime).convertToEntity(),
+                getEvent("Second", Sport.BOXING, ACTIVE, dateTime).convertToEntity(),
+                getEvent("Third", Sport.BOXING, ACTIVE, dateTime).convertToEntity()));
+
+        MvcResult firstResult = mockMvc.perform(get(URL)
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andReturn();
+        EventPageDTO firstPage = objectMapper.readValue(firstResult.getResponse().getContentAsString(), EventPageDTO.class);
+        assertEquals(2, firstPage.getEvents().size());
+        assertNotNull(firstPage.getNextCursor());
+
+        MvcResult secondResult = mockMvc.perform(get(URL)
+                        .param("after", firstPage.getNextCursor().toString())
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andReturn();
+        EventPageDTO secondPage = objectMapper.readValue(secondResult.getResponse().getContentAsString(), EventPageDTO.class);
+        assertEquals(1, secondPage.getEvents().size());
+        assertEquals("Third", secondPage.getEvents().get(0).getName());
+        assertNull(secondPage.getNextCursor());
+    }
+
+    @Test
+    void shouldGetEventsInStartTimeRangeSortedDescending() throws Exception {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 10, 4, 13, 30);
+        eventRepository.saveAll(List.of(
+                getEvent("Before", Sport.BOXING, ACTIVE, dateTime.minusDays(1)).convertToEntity(),
+                getEvent("Early", Sport.BOXING, ACTIVE, dateTime).convertToEntity(),
+                getEvent("Late", Sport.HOCKEY, INACTIVE, dateTime.plusHours(12)).convertToEntity(),
+                getEvent("After", Sport.BOXING, ACTIVE, dateTime.plusDays(1)).convertToEntity()));
+
+        MvcResult result = mockMvc.perform(get(URL)
+                        .param("from", dateTime.toString())
+                        .param("to", dateTime.plusDays(1).toString())
+                        .param("sort", "desc"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        List<EventDTO> events = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+        });
+        assertEquals(List.of("Late", "Early"), events.stream().map(EventDTO::getName).toList());
+    }
+
+    @Test
+    void shouldGetNextUpcomingEvents() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        eventRepository.saveAll(List.of(
+                getEvent("Past", Sport.BOXING, ACTIVE, now.minusHours(1)).convertToEntity(),
+                getEvent("Third", Sport.BOXING, INACTIVE, now.plusDays(3)).convertToEntity(),
+                getEvent("First", Sport.HOCKEY, INACTIVE, now.plusDays(1)).convertToEntity(),
+                getEvent("Second", Sport.BOXING, INACTIVE, now.plusDays(2)).convertToEntity()));
+
+        MvcResult result = mockMvc.perform(get(URL + "/upcoming")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        List<EventDTO> events = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+        });
+        assertEquals(List.of("First", "Second"), events.stream().map(EventDTO::getName).toList());
+    }
+
+    @Test
+    void shouldSearchEventsByName() throws Exception {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 10, 4, 13, 30);
+        for (EventDTO eventDTO : List.of(
+                getEvent("Champions League final", Sport.FOOTBALL, ACTIVE, dateTime),
+                getEvent("Women's Champions League", Sport.FOOTBALL, INACTIVE, dateTime),
+                getEvent("Champions Hockey League", Sport.HOCKEY, ACTIVE, dateTime))) {
+            mockMvc.perform(post(URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(eventDTO)))
+                    .andExpect(status().isOk());
+        }
+
+        MvcResult result = mockMvc.perform(get(URL + "/search")
+                        .param("q", "champions lea")
+                        .param("sport", "FOOTBALL"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        List<EventDTO> events = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+        });
+        assertEquals(List.of("Champions League final", "Women's Champions League"),
+                events.stream().map(EventDTO::getName).toList());
+        mockMvc.perform(get(URL + "/search")
+                        .param("q", "ch"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldCountEventsPerSportAndStatus() throws Exception {
+        EventStatsDTO before = getStats();
+
+        EventDTO createdEvent = createEvent(ACTIVE);
+        createEvent(ACTIVE);
+        mockMvc.perform(put(URL + "/" + createdEvent.getId() + "/status")
+                        .param("newStatus", FINISHED.name()))
+                .andExpect(status().isOk());
+
+        EventStatsDTO after = getStats();
+        assertEquals(before.getTotal() + 2, after.getTotal());
+        assertEquals(before.getCounts().get("HOCKEY").get("ACTIVE") + 1, after.getCounts().get("HOCKEY").get("ACTIVE"));
+        assertEquals(before.getCounts().get("HOCKEY").get("FINISHED") + 1, after.getCounts().get("HOCKEY").get("FINISHED"));
+    }
+
+    @Test
+    void shouldExchangeEventsAsCbor() throws Exception {
+        ObjectMapper cborMapper = EventBinaryModule.binaryMapper(objectMapper, new CBORFactory());
+        LocalDateTime dateTime = LocalDateTime.of(2024, 10, 4, 13, 30, 15, 123_456_000);
+        EventDTO eventDTO = getEvent("Binary boxing", Sport.BOXING, ACTIVE, dateTime);
+
+        MvcResult createResult = mockMvc.perform(post(URL)
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(eventDTO)))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals(MediaType.APPLICATION_CBOR_VALUE, createResult.getResponse().getContentType());
+        EventDTO createdEvent = cborMapper.readValue(createResult.getResponse().getContentAsByteArray(), EventDTO.class);
+        assertEquals("BOXING", createdEvent.getSport());
+        assertEquals(ACTIVE.name(), createdEvent.getEventStatus());
+        assertEquals(dateTime, createdEvent.getStartTime());
+
+        MvcResult jsonResult = mockMvc.perform(get(URL + "/" + createdEvent.getId()))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertTrue(jsonResult.getResponse().getContentType().startsWith(MediaType.APPLICATION_JSON_VALUE));
+    }
+
+    @Test
+    void shouldRejectUnknownEnumOrdinalInCbor() throws Exception {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (JsonGenerator generator = new CBORFactory().createGenerator(body)) {
+            generator.writeStartObject();
+            generator.writeStringField("name", "Binary boxing");
+            generator.writeNumberField("sport", 99);
+            generator.writeNumberField("status", ACTIVE.ordinal());
+            generator.writeEndObject();
+        }
+
+        mockMvc.perform(post(URL)
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .content(body.toByteArray()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldExportAndImportEventsAsNdjson() throws Exception {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 10, 4, 13, 30);
+        eventRepository.saveAll(List.of(
+                getEvent("First", Sport.BOXING, ACTIVE, dateTime).convertToEntity(),
+                getEvent("Second", Sport.HOCKEY, INACTIVE, dateTime).convertToEntity()));
+
+        MvcResult exportResult = mockMvc.perform(get(URL + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String exported = mockMvc.perform(asyncDispatch(exportResult))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<String> lines = exported.lines().toList();
+        assertEquals(2, lines.size());
+        assertEquals("First", objectMapper.readValue(lines.get(0), EventDTO.class).getName());
+
+        eventRepository.deleteAll();
+        String body = String.join("\n", lines.get(0), "{not json", "", lines.get(1),
+                objectMapper.writeValueAsString(new EventDTO("Chess", "CHESS", ACTIVE.name(), dateTime)));
+        MvcResult importResult = mockMvc.perform(post(URL + "/import")
+                        .contentType(EventNdjson.MEDIA_TYPE)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        EventImportResultDTO imported = objectMapper.readValue(importResult.getResponse().getContentAsString(), EventImportResultDTO.class);
+        assertEquals(2, imported.getImported());
+        assertEquals(2, imported.getFailed());
+        assertEquals(List.of(2, 5), imported.getErrors().stream().map(EventBatchErrorDTO::getIndex).toList());
+        assertEquals(2, eventRepository.count());
+    }
+
+    @Test
+    void shouldFallThroughToArchiveForArchivedEvents() throws Exception {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 10, 4, 13, 30);
+        Long finishedId = eventRepository.save(getEvent("Old final", Sport.FOOTBALL, FINISHED, dateTime).convertToEntity()).getId();
+        eventRepository.save(getEvent("Live match", Sport.FOOTBALL, ACTIVE, dateTime).convertToEntity());
+
+        assertEquals(1, eventService.archiveFinishedEvents(LocalDateTime.now(), 100));
+        assertEquals(1, eventRepository.count());
+        assertEquals(1, archiveRepository.count());
+
+        MvcResult byId = mockMvc.perform(get(URL + "/" + finishedId))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals("Old final", objectMapper.readValue(byId.getResponse().getContentAsString(), EventDTO.class).getName());
+
+        MvcResult live = mockMvc.perform(get(URL).param("sport", "FOOTBALL"))
+                .andExpect(status().isOk())
+                .andReturn();
+        List<EventDTO> liveEvents = objectMapper.readValue(live.getResponse().getContentAsString(), new TypeReference<>() {
+        });
+        assertEquals(List.of("Live match"), liveEvents.stream().map(EventDTO::getName).toList());
+
+        MvcResult all = mockMvc.perform(get(URL).param("sport", "FOOTBALL").param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andReturn();
+        List<EventDTO> allEvents = objectMapper.readValue(all.getResponse().getContentAsString(), new TypeReference<>() {
+        });
+        assertEquals(List.of("Live match", "Old final"), allEvents.stream().map(EventDTO::getName).toList());
+    }
+
+    @Test
+    void shouldStreamEvents() throws Exception {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 10, 4, 13, 30);
+        eventRepository.saveAll(List.of(
+                getEvent("Test boxing", Sport.BOXING, ACTIVE, dateTime).convertToEntity(),
+                getEvent("Hockey test", Sport.HOCKEY, ACTIVE, dateTime).convertToEntity()));
+
+        MvcResult asyncResult = mockMvc.perform(get(URL)
+                        .param("stream", "true")
+                        .param("sport", "HOCKEY"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        List<EventDTO> events = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+        });
+        assertEquals(1, events.size());
+        assertEquals(Sport.HOCKEY.name(), events.get(0).getSport());
+    }
+
+    @Test
+    void shouldPushChangesToStreamSubscribers() throws Exception {
+        MvcResult stream = mockMvc.perform(get(URL + "/stream")
+                        .param("sport", "HOCKEY"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        EventDTO createdEvent = createEvent(ACTIVE);
+        mockMvc.perform(put(URL + "/" + createdEvent.getId() + "/status")
+                        .param("newStatus", FINISHED.name()))
+                .andExpect(status().isOk());
+
+        String content = awaitContent(stream, "event:status-changed");
+        assertTrue(content.contains("event:created"));
+        assertTrue(content.contains("\"status\":\"FINISHED\""));
+    }
+
+    @Test
+    void shouldTellStatusSubscribersWhenAnEventLeavesTheirStatus() throws Exception {
+        EventDTO createdEvent = createEvent(ACTIVE);
+        MvcResult stream = mockMvc.perform(get(URL + "/stream")
+                        .param("status", ACTIVE.name()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(put(URL + "/" + createdEvent.getId() + "/status")
+                        .param("newStatus", FINISHED.name()))
+                .andExpect(status().isOk());
+
+        String content = awaitContent(stream, "event:status-changed");
+        assertTrue(content.contains("\"status\":\"FINISHED\""));
+    }
+
     @Test
     void getEventById() throws Exception {
         EventDTO createdEvent = createEvent();
@@ -161,6 +481,79 @@ class EventControllerIT {
         assertEquals(createdEvent.getId(), resultEvent.getId());
     }
 
+    @Test
+    void shouldAnswerNotModifiedForUnchangedEvent() throws Exception {
+        EventDTO createdEvent = createEvent();
+
+        String eTag = mockMvc.perform(get(URL + "/" + createdEvent.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+
+        mockMvc.perform(get(URL + "/" + createdEvent.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(put(URL + "/" + createdEvent.getId() + "/status")
+                        .param("newStatus", FINISHED.name()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(URL + "/" + createdEvent.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldAnswerNotModifiedForUnchangedListing() throws Exception {
+        createEvent(ACTIVE);
+
+        String eTag = mockMvc.perform(get(URL).param("status", ACTIVE.name()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+
+        mockMvc.perform(get(URL).param("status", ACTIVE.name())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        createEvent(ACTIVE);
+
+        mockMvc.perform(get(URL).param("status", ACTIVE.name())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldTagEachEncodingSeparately() throws Exception {
+        EventDTO createdEvent = createEvent(ACTIVE);
+
+        for (String url : List.of(URL + "/" + createdEvent.getId(), URL + "?status=" + ACTIVE.name())) {
+            MvcResult json = mockMvc.perform(get(url))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            String jsonTag = json.getResponse().getHeader(HttpHeaders.ETAG);
+            assertEquals(HttpHeaders.ACCEPT, json.getResponse().getHeader(HttpHeaders.VARY));
+
+            // A CBOR client must not be told that the JSON bytes it never received are still current
+            MvcResult cbor = mockMvc.perform(get(url)
+                            .accept(MediaType.APPLICATION_CBOR)
+                            .header(HttpHeaders.IF_NONE_MATCH, jsonTag))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            assertEquals(MediaType.APPLICATION_CBOR_VALUE, cbor.getResponse().getContentType());
+            String cborTag = cbor.getResponse().getHeader(HttpHeaders.ETAG);
+            assertNotEquals(jsonTag, cborTag);
+
+            mockMvc.perform(get(url)
+                            .accept(MediaType.APPLICATION_CBOR)
+                            .header(HttpHeaders.IF_NONE_MATCH, cborTag))
+                    .andExpect(status().isNotModified());
+            mockMvc.perform(get(url)
+                            .header(HttpHeaders.IF_NONE_MATCH, cborTag))
+                    .andExpect(status().isOk());
+        }
+    }
+
     @Test
     void shouldUpdateEventStatus() throws Exception {
         EventDTO createdEvent = createEvent();
@@ -181,6 +574,66 @@ class EventControllerIT {
         assertEquals(FINISHED.name(), updatedEvent.getEventStatus());
     }
 
+    @Test
+    void shouldApplyAsyncStatusUpdateAfterAcknowledging() throws Exception {
+        EventDTO createdEvent = createEvent(ACTIVE);
+
+        mockMvc.perform(put(URL + "/" + createdEvent.getId() + "/status")
+                        .param("newStatus", FINISHED.name())
+                        .param("async", "true"))
+                .andExpect(status().isAccepted());
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (eventRepository.findById(createdEvent.getId()).orElseThrow().getEventStatus() != FINISHED
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(FINISHED, eventRepository.findById(createdEvent.getId()).orElseThrow().getEventStatus());
+    }
+
+    @Test
+    void shouldUpdateStatusesInBulkAndReportRejected() throws Exception {
+        EventDTO activeEvent = createEvent(ACTIVE);
+        EventDTO inactiveEvent = createEvent(INACTIVE, LocalDateTime.now().plusDays(1));
+        EventDTO finishedEvent = createEvent(FINISHED);
+        EventStatusBulkUpdateDTO request = new EventStatusBulkUpdateDTO(
+                List.of(activeEvent.getId(), inactiveEvent.getId(), finishedEvent.getId(), 999_999L), null, null, null, FINISHED.name());
+
+        MvcResult result = mockMvc.perform(put(URL + "/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        EventStatusBulkResultDTO bulkResult = objectMapper.readValue(result.getResponse().getContentAsString(), EventStatusBulkResultDTO.class);
+        assertEquals(List.of(activeEvent.getId()), bulkResult.getUpdated());
+        assertEquals(List.of(inactiveEvent.getId(), finishedEvent.getId(), 999_999L), bulkResult.getRejected());
+        assertEquals(FINISHED, eventRepository.findById(activeEvent.getId()).orElseThrow().getEventStatus());
+        assertEquals(INACTIVE, eventRepository.findById(inactiveEvent.getId()).orElseThrow().getEventStatus());
+    }
+
+    @Test
+    void shouldUpdateStatusesInBulkBySportAndStartTime() throws Exception {
+        LocalDateTime dateTime = LocalDateTime.now().plusDays(2);
+        eventRepository.saveAll(List.of(
+                getEvent("Boxing today", Sport.BOXING, INACTIVE, dateTime).convertToEntity(),
+                getEvent("Boxing next week", Sport.BOXING, INACTIVE, dateTime.plusDays(7)).convertToEntity(),
+                getEvent("Hockey today", Sport.HOCKEY, INACTIVE, dateTime).convertToEntity()));
+        EventStatusBulkUpdateDTO request = new EventStatusBulkUpdateDTO(
+                null, Sport.BOXING.name(), dateTime.minusHours(1), dateTime.plusHours(1), ACTIVE.name());
+
+        MvcResult result = mockMvc.perform(put(URL + "/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        EventStatusBulkResultDTO bulkResult = objectMapper.readValue(result.getResponse().getContentAsString(), EventStatusBulkResultDTO.class);
+        assertEquals(1, bulkResult.getUpdated().size());
+        assertTrue(bulkResult.getRejected().isEmpty());
+        assertEquals("Boxing today", eventRepository.findById(bulkResult.getUpdated().get(0)).orElseThrow().getName());
+    }
+
     @Test
     void shouldNotChangeFinishedStatus() throws Exception {
         EventDTO finishedEvent = createEvent(FINISHED);
@@ -214,6 +667,24 @@ class EventControllerIT {
                 .andExpect(status().isBadRequest());
     }
 
+    private String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString();
+        }
+        assertTrue(content.contains(expected), content);
+        return content;
+    }
+
+    private EventStatsDTO getStats() throws Exception {
+        MvcResult result = mockMvc.perform(get(URL + "/stats"))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readValue(result.getResponse().getContentAsString(), EventStatsDTO.class);
+    }
+
     private EventDTO createEvent() throws Exception {
         return createEvent(ACTIVE, LocalDateTime.now());
     }
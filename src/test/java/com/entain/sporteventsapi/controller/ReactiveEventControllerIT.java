@@ -0,0 +1,118 @@
+package com.entain.sporteventsapi.controller;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
+import com.entain.sporteventsapi.repository.EventRepository;
+import com.entain.sporteventsapi.service.EventListingCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.entain.sporteventsapi.entity.EventStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("reactive")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.main.web-application-type=reactive",
+        "spring.datasource.url=jdbc:h2:mem:reactive-it;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive-it?options=DB_CLOSE_DELAY=-1",
+        "events.archive.enabled=false"})
+class ReactiveEventControllerIT {
+    private static final String URL = "/api/events";
+
+    @Autowired
+    private WebTestClient client;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventListingCache listingCache;
+
+    @AfterEach
+    public void cleanUp() {
+        eventRepository.deleteAll();
+        listingCache.invalidateAll();
+    }
+
+    @Test
+    void shouldCreateAndGetEvent() {
+        EventDTO created = createEvent(INACTIVE, Sport.FOOTBALL, LocalDateTime.now().plusDays(1));
+        assertNotNull(created.getId());
+        assertEquals(0L, created.getVersion());
+
+        EventDTO fetched = client.get().uri(URL + "/" + created.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(EventDTO.class)
+                .returnResult().getResponseBody();
+        assertEquals(created.getName(), fetched.getName());
+        assertEquals(INACTIVE.name(), fetched.getEventStatus());
+        // Written over R2DBC, visible to the JPA stack
+        assertTrue(eventRepository.findById(created.getId()).isPresent());
+    }
+
+    @Test
+    void shouldStreamEventsFilteredByStatusAndSport() {
+        createEvent(INACTIVE, Sport.FOOTBALL, LocalDateTime.now().plusDays(1));
+        createEvent(INACTIVE, Sport.HOCKEY, LocalDateTime.now().plusDays(1));
+        createEvent(FINISHED, Sport.FOOTBALL, LocalDateTime.now().minusDays(1));
+
+        List<EventDTO> events = client.get().uri(URL + "?status=INACTIVE&sport=FOOTBALL")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(EventDTO.class)
+                .returnResult().getResponseBody();
+        assertEquals(1, events.size());
+        assertEquals(Sport.FOOTBALL.name(), events.get(0).getSport());
+
+        client.get().uri(URL).exchange().expectBodyList(EventDTO.class).hasSize(3);
+    }
+
+    @Test
+    void shouldUpdateEventStatus() {
+        EventDTO event = createEvent(INACTIVE, Sport.FOOTBALL, LocalDateTime.now().plusDays(1));
+
+        EventDTO updated = client.put().uri(URL + "/" + event.getId() + "/status?newStatus=ACTIVE")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(EventDTO.class)
+                .returnResult().getResponseBody();
+        assertEquals(ACTIVE.name(), updated.getEventStatus());
+        assertEquals(1L, updated.getVersion());
+        assertEquals(ACTIVE, eventRepository.findById(event.getId()).orElseThrow().getEventStatus());
+    }
+
+    @Test
+    void shouldApplySameTransitionRulesAsBlockingStack() {
+        EventDTO finished = createEvent(FINISHED, Sport.FOOTBALL, LocalDateTime.now().minusDays(1));
+        EventDTO inactive = createEvent(INACTIVE, Sport.FOOTBALL, LocalDateTime.now().plusDays(1));
+        EventDTO started = createEvent(INACTIVE, Sport.FOOTBALL, LocalDateTime.now().minusDays(20));
+
+        updateStatus(finished, INACTIVE).expectStatus().isBadRequest();
+        updateStatus(inactive, FINISHED).expectStatus().isBadRequest();
+        updateStatus(started, ACTIVE).expectStatus().isBadRequest();
+        client.put().uri(URL + "/123/status?newStatus=ACTIVE").exchange().expectStatus().isNotFound();
+        client.get().uri(URL + "/123").exchange().expectStatus().isNotFound();
+    }
+
+    private WebTestClient.ResponseSpec updateStatus(EventDTO event, EventStatus newStatus) {
+        return client.put().uri(URL + "/" + event.getId() + "/status?newStatus=" + newStatus.name()).exchange();
+    }
+
+    private EventDTO createEvent(EventStatus status, Sport sport, LocalDateTime startTime) {
+        return client.post().uri(URL)
+                .bodyValue(new EventDTO("Test Event", sport.name(), status.name(), startTime))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(EventDTO.class)
+                .returnResult().getResponseBody();
+    }
+}
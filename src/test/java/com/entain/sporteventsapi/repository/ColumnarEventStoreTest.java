@@ -0,0 +1,180 @@
+package com.entain.sporteventsapi.repository;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.entity.EventStatus;
+import com.entain.sporteventsapi.entity.Sport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Limit;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ColumnarEventStoreTest {
+    private static final LocalDateTime START = LocalDateTime.of(2024, 6, 1, 18, 30, 15, 123_456_000);
+
+    private ColumnarEventStore store;
+
+    @BeforeEach
+    public void setUp() {
+        store = newStore();
+    }
+
+    @Test
+    public void shouldAssignDenseIdsAndRoundTripFields() {
+        EventDTO first = store.save(new EventDTO("Final", "FOOTBALL", "INACTIVE", START));
+        EventDTO second = store.save(new EventDTO("Derby", "HOCKEY", "ACTIVE", START.minusYears(60)));
+
+        assertEquals(1L, first.getId());
+        assertEquals(2L, second.getId());
+        assertEquals(0L, first.getVersion());
+
+        EventDTO found = store.findById(2L).orElseThrow();
+        assertEquals("Derby", found.getName());
+        assertEquals("HOCKEY", found.getSport());
+        assertEquals("ACTIVE", found.getEventStatus());
+        assertEquals(START.minusYears(60), found.getStartTime());
+        assertTrue(store.findById(3L).isEmpty());
+        assertTrue(store.findById(0L).isEmpty());
+    }
+
+    @Test
+    public void shouldFilterByStatusAndSport() {
+        // Enough rows to span several bitmap words and one capacity increase
+        for (int i = 0; i < 3000; i++) {
+            Sport sport = Sport.values()[i % Sport.values().length];
+            EventStatus status = EventStatus.values()[i % EventStatus.values().length];
+            store.save(new EventDTO("Event " + i, sport.name(), status.name(), START.plusMinutes(i)));
+        }
+
+        assertEquals(3000, store.findAll().size());
+        assertEquals(1000, store.findByEventStatus(EventStatus.ACTIVE).size());
+        assertEquals(500, store.findBySport(Sport.BOXING).size());
+        // i % 6 == 4 always gives i % 3 == 1
+        List<EventDTO> boxingActive = store.findByEventStatusAndSport(EventStatus.ACTIVE, Sport.BOXING);
+        assertEquals(500, boxingActive.size());
+        assertTrue(store.findByEventStatusAndSport(EventStatus.INACTIVE, Sport.BOXING).isEmpty());
+        assertTrue(boxingActive.stream().allMatch(e -> e.getSport().equals("BOXING") && e.getEventStatus().equals("ACTIVE")));
+    }
+
+    @Test
+    public void shouldChangeStatusOnlyForExpectedVersion() {
+        Long id = store.save(new EventDTO("Final", "FOOTBALL", "INACTIVE", START)).getId();
+
+        assertTrue(store.compareAndSetStatus(id, EventStatus.INACTIVE, 0L, EventStatus.ACTIVE));
+        assertFalse(store.compareAndSetStatus(id, EventStatus.ACTIVE, 0L, EventStatus.FINISHED));
+        assertFalse(store.compareAndSetStatus(id, EventStatus.INACTIVE, 1L, EventStatus.FINISHED));
+        assertFalse(store.compareAndSetStatus(42L, EventStatus.INACTIVE, 0L, EventStatus.ACTIVE));
+
+        EventDTO event = store.findById(id).orElseThrow();
+        assertEquals("ACTIVE", event.getEventStatus());
+        assertEquals(1L, event.getVersion());
+        assertTrue(store.findByEventStatus(EventStatus.INACTIVE).isEmpty());
+        assertEquals(1, store.findByEventStatusAndSport(EventStatus.ACTIVE, Sport.FOOTBALL).size());
+    }
+
+    @Test
+    public void shouldApplyBulkTransitionsByTheSameRulesAsTheDatabase() {
+        LocalDateTime now = START;
+        store.save(new EventDTO("Started", "FOOTBALL", "INACTIVE", now.minusHours(1)));
+        store.save(new EventDTO("Upcoming", "FOOTBALL", "INACTIVE", now.plusHours(1)));
+        store.save(new EventDTO("Running", "HOCKEY", "ACTIVE", now.minusHours(1)));
+        store.save(new EventDTO("Done", "HOCKEY", "FINISHED", now.minusDays(1)));
+
+        List<EventDTO> activated = store.transitionStatuses(List.of(4L, 3L, 2L, 1L, 2L, 99L), EventStatus.ACTIVE, now);
+
+        // Returned as they were before the change, in id order; the started INACTIVE and the FINISHED event stay put
+        assertEquals(List.of(2L, 3L), activated.stream().map(EventDTO::getId).toList());
+        assertEquals("INACTIVE", activated.get(0).getEventStatus());
+        assertEquals(1L, store.findById(2L).orElseThrow().getVersion());
+        assertEquals("INACTIVE", store.findById(1L).orElseThrow().getEventStatus());
+        assertEquals(1, store.findByEventStatusAndSport(EventStatus.ACTIVE, Sport.FOOTBALL).size());
+
+        List<EventDTO> started = store.activateStarted(List.of(1L, 2L), now);
+        assertEquals(List.of(1L), started.stream().map(EventDTO::getId).toList());
+        assertEquals("ACTIVE", store.findById(1L).orElseThrow().getEventStatus());
+        assertTrue(store.findByEventStatus(EventStatus.INACTIVE).isEmpty());
+    }
+
+    @Test
+    public void shouldPageByIdAndOrderByStartTime() {
+        store.save(new EventDTO("Third", "BOXING", "INACTIVE", START.plusDays(3)));
+        store.save(new EventDTO("First", "HOCKEY", "INACTIVE", START.plusDays(1)));
+        store.save(new EventDTO("Second", "BOXING", "INACTIVE", START.plusDays(2)));
+        store.save(new EventDTO("Past", "BOXING", "ACTIVE", START.minusDays(1)));
+
+        assertEquals(List.of(3L, 4L), store.findPage(null, Sport.BOXING, 1L, 2).stream().map(EventDTO::getId).toList());
+        assertEquals(List.of("Second"), names(store.findPage(EventStatus.INACTIVE, Sport.BOXING, 1L, 10)));
+        assertTrue(store.findPage(null, null, 4L, 10).isEmpty());
+        assertEquals(List.of("First", "Second"), names(store.findByStartTime(EventStatus.INACTIVE, null, START, null, false, Limit.of(2))));
+        assertEquals(List.of("Second", "First"), names(store.findByStartTime(null, null, START, START.plusDays(3), true, Limit.unlimited())));
+        assertEquals(List.of(1L, 3L), store.findIdsBySportAndStartTime(Sport.BOXING, START, null));
+    }
+
+    @Test
+    public void shouldRefuseToStartWithSqlOnlyFeatures() {
+        assertThrows(IllegalStateException.class, () -> new ColumnarEventStore(new MockEnvironment()
+                .withProperty("events.datasource.replica-urls", "jdbc:h2:mem:replica")));
+        assertThrows(IllegalStateException.class, () -> new ColumnarEventStore(new MockEnvironment()
+                .withProperty("spring.main.web-application-type", "reactive")));
+    }
+
+    @Test
+    public void shouldShareRepeatedNames() {
+        store.save(new EventDTO(new String("Final"), "FOOTBALL", "INACTIVE", START));
+        store.save(new EventDTO(new String("Final"), "BOXING", "INACTIVE", START));
+
+        assertSame(store.findById(1L).orElseThrow().getName(), store.findById(2L).orElseThrow().getName());
+    }
+
+    @Test
+    public void shouldRestoreFromSnapshot(@TempDir Path directory) {
+        store.save(new EventDTO("Final", "FOOTBALL", "INACTIVE", START));
+        store.save(new EventDTO("Título", "BOXING", "INACTIVE", START.plusDays(1)));
+        store.compareAndSetStatus(2L, EventStatus.INACTIVE, 0L, EventStatus.ACTIVE);
+        Path snapshot = directory.resolve("events.snapshot");
+        store.snapshot(snapshot);
+
+        ColumnarEventStore restored = newStore();
+        assertEquals(2, restored.restore(snapshot));
+
+        EventDTO event = restored.findById(2L).orElseThrow();
+        assertEquals("Título", event.getName());
+        assertEquals("ACTIVE", event.getEventStatus());
+        assertEquals(1L, event.getVersion());
+        assertEquals(START.plusDays(1), event.getStartTime());
+        assertEquals(1, restored.findByEventStatusAndSport(EventStatus.ACTIVE, Sport.BOXING).size());
+        assertEquals(3L, restored.save(new EventDTO("Final", "HOCKEY", "INACTIVE", START)).getId());
+        assertThrows(IllegalStateException.class, () -> restored.restore(snapshot));
+    }
+
+    @Test
+    public void shouldRestoreEventsWithoutNameOrStartTime(@TempDir Path directory) {
+        store.save(new EventDTO(null, "FOOTBALL", "INACTIVE", null));
+        store.save(new EventDTO("Final", "FOOTBALL", "INACTIVE", START));
+        Path snapshot = directory.resolve("events.snapshot");
+        store.snapshot(snapshot);
+
+        ColumnarEventStore restored = newStore();
+        assertEquals(2, restored.restore(snapshot));
+
+        EventDTO event = restored.findById(1L).orElseThrow();
+        assertNull(event.getName());
+        assertNull(event.getStartTime());
+        assertEquals("Final", restored.findById(2L).orElseThrow().getName());
+        assertNull(restored.save(new EventDTO(null, "HOCKEY", "INACTIVE", START)).getName());
+    }
+
+    private static ColumnarEventStore newStore() {
+        return new ColumnarEventStore(new MockEnvironment());
+    }
+
+    private static List<String> names(List<EventDTO> events) {
+        return events.stream().map(EventDTO::getName).toList();
+    }
+}
@@ -0,0 +1,68 @@
+package com.entain.sporteventsapi.repository;
+
+import com.entain.sporteventsapi.dto.EventBatchResultDTO;
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.service.EventService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Rows written before the sequence existed got their ids from the V1 identity, so the sequence must start past them
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + EventIdSequenceIT.URL,
+        "events.archive.enabled=false",
+        "events.scheduler.enabled=false"})
+class EventIdSequenceIT {
+    static final String URL = "jdbc:h2:mem:id-sequence-it;DB_CLOSE_DELAY=-1";
+    private static final int SEEDED = 120;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void seedBeforeSequence() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .target("2")
+                .load()
+                .migrate();
+        JdbcTemplate database = new JdbcTemplate(dataSource);
+        for (int i = 0; i < SEEDED; i++) {
+            database.update("INSERT INTO events (name, sport, event_status, start_time) VALUES (?, ?, ?, ?)",
+                    "Seeded " + i, "FOOTBALL", "FINISHED", Timestamp.valueOf(LocalDateTime.now().minusDays(1)));
+        }
+    }
+
+    @Test
+    void shouldAssignIdsAfterRowsThatPredateTheSequence() {
+        Long highestSeeded = jdbcTemplate.queryForObject("SELECT MAX(id) FROM events", Long.class);
+        List<EventDTO> batch = IntStream.range(0, 60)
+                .mapToObj(i -> new EventDTO("New " + i, "HOCKEY", "INACTIVE", LocalDateTime.now().plusDays(1)))
+                .toList();
+
+        EventBatchResultDTO result = eventService.createEvents(batch);
+        jdbcTemplate.update("INSERT INTO events (name, sport, event_status, start_time) VALUES ('Plain SQL', 'BOXING', 'INACTIVE', ?)",
+                Timestamp.valueOf(LocalDateTime.now().plusDays(1)));
+
+        assertEquals(60, result.getCreated().size());
+        List<Long> ids = result.getCreated().stream().map(EventDTO::getId).toList();
+        assertTrue(Collections.min(ids) > highestSeeded, "Hibernate reused a seeded id");
+        assertEquals(SEEDED + 61, jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT id) FROM events", Integer.class));
+    }
+}
@@ -0,0 +1,60 @@
+package com.entain.sporteventsapi.scheduler;
+
+import com.entain.sporteventsapi.repository.EventRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static com.entain.sporteventsapi.entity.EventStatus.ACTIVE;
+import static com.entain.sporteventsapi.entity.EventStatus.INACTIVE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// The rows are written before the context starts, as if their start time passed while the application was down
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + EventActivationSchedulerIT.URL,
+        "events.archive.enabled=false",
+        "events.scheduler.tick-millis=50"})
+class EventActivationSchedulerIT {
+    static final String URL = "jdbc:h2:mem:activation-scheduler-it;DB_CLOSE_DELAY=-1";
+    private static final long OVERDUE_ID = 900_001L;
+    private static final long UPCOMING_ID = 900_002L;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @BeforeAll
+    static void seedBeforeStartup() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .load()
+                .migrate();
+        JdbcTemplate database = new JdbcTemplate(dataSource);
+        insert(database, OVERDUE_ID, LocalDateTime.now().minusHours(2));
+        insert(database, UPCOMING_ID, LocalDateTime.now().plusDays(1));
+    }
+
+    @Test
+    void shouldActivateEventsThatStartedWhileTheApplicationWasDown() throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (eventRepository.findById(OVERDUE_ID).orElseThrow().getEventStatus() != ACTIVE
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        assertEquals(ACTIVE, eventRepository.findById(OVERDUE_ID).orElseThrow().getEventStatus());
+        assertEquals(INACTIVE, eventRepository.findById(UPCOMING_ID).orElseThrow().getEventStatus());
+    }
+
+    private static void insert(JdbcTemplate database, long id, LocalDateTime startTime) {
+        database.update("INSERT INTO events (id, name, sport, event_status, start_time) VALUES (?, ?, ?, ?, ?)",
+                id, "Seeded " + id, "FOOTBALL", "INACTIVE", Timestamp.valueOf(startTime));
+    }
+}
@@ -0,0 +1,34 @@
+package com.entain.sporteventsapi.scheduler;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.service.EventChange;
+import com.entain.sporteventsapi.service.EventService;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class EventActivationSchedulerTest {
+    private final EventActivationScheduler scheduler = new EventActivationScheduler(mock(EventService.class), 1000, 64, 500);
+
+    @Test
+    public void shouldScheduleOnlyUpcomingInactiveEvents() {
+        scheduler.onEventChange(new EventChange(event(1L, "INACTIVE", LocalDateTime.now().plusHours(1)), null));
+        scheduler.onEventChange(new EventChange(event(2L, "ACTIVE", LocalDateTime.now().plusHours(1)), null));
+        scheduler.onEventChange(new EventChange(event(3L, "INACTIVE", LocalDateTime.now().minusHours(1)), null));
+
+        assertEquals(1, scheduler.pendingCount());
+    }
+
+    @Test
+    public void shouldIgnoreEventsWithoutStartTime() {
+        assertDoesNotThrow(() -> scheduler.onEventChange(new EventChange(event(1L, "INACTIVE", null), null)));
+        assertEquals(0, scheduler.pendingCount());
+    }
+
+    private static EventDTO event(Long id, String status, LocalDateTime startTime) {
+        return new EventDTO(id, "Final", "FOOTBALL", status, startTime, 0L);
+    }
+}
@@ -0,0 +1,58 @@
+package com.entain.sporteventsapi.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimingWheelTest {
+
+    @Test
+    public void shouldReturnIdsOnceTheirDeadlinePassed() {
+        TimingWheel wheel = new TimingWheel(100, 8, 0);
+        wheel.schedule(1L, 250);
+        wheel.schedule(2L, 520);
+
+        assertTrue(wheel.advance(249).isEmpty());
+        assertEquals(List.of(1L), wheel.advance(300));
+        assertTrue(wheel.advance(500).isEmpty());
+        assertEquals(List.of(2L), wheel.advance(600));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void shouldKeepIdsScheduledBeyondOneRotation() {
+        TimingWheel wheel = new TimingWheel(100, 4, 0);
+        wheel.schedule(1L, 1_050);
+
+        assertTrue(wheel.advance(400).isEmpty());
+        assertTrue(wheel.advance(800).isEmpty());
+        assertEquals(List.of(1L), wheel.advance(1_100));
+    }
+
+    @Test
+    public void shouldFireOverdueIdsOnNextAdvance() {
+        TimingWheel wheel = new TimingWheel(100, 8, 1_000);
+        wheel.schedule(1L, 10);
+
+        assertEquals(List.of(1L), wheel.advance(1_100));
+    }
+
+    @Test
+    public void shouldNotFireCancelledOrRescheduledIds() {
+        TimingWheel wheel = new TimingWheel(100, 8, 0);
+        wheel.schedule(1L, 200);
+        wheel.schedule(2L, 200);
+        wheel.cancel(1L);
+        wheel.schedule(2L, 700);
+
+        assertTrue(wheel.advance(300).isEmpty());
+        assertEquals(List.of(2L), wheel.advance(700));
+    }
+
+    @Test
+    public void shouldRejectWheelSizeThatIsNotPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel(100, 6, 0));
+    }
+}
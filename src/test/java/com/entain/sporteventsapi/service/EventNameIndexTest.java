@@ -0,0 +1,90 @@
+package com.entain.sporteventsapi.service;
+
+import com.entain.sporteventsapi.dto.EventDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.entain.sporteventsapi.entity.EventStatus.*;
+import static com.entain.sporteventsapi.entity.Sport.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventNameIndexTest {
+    private final EventNameIndex index = new EventNameIndex(null);
+
+    @Test
+    public void shouldFindNamesContainingQueryIgnoringCase() {
+        index.index(event(1L, "Champions League final", "FOOTBALL", "INACTIVE", 0L));
+        index.index(event(2L, "Europa League final", "FOOTBALL", "INACTIVE", 0L));
+        index.index(event(3L, "Stanley Cup final", "HOCKEY", "INACTIVE", 0L));
+
+        assertEquals(List.of(1L, 2L), index.search("LEAGUE", null, null, 10));
+        assertEquals(List.of(3L), index.search("cup", null, null, 10));
+        assertTrue(index.search("world", null, null, 10).isEmpty());
+    }
+
+    @Test
+    public void shouldRankPrefixMatchesFirst() {
+        index.index(event(1L, "Women's Champions League", "FOOTBALL", "INACTIVE", 0L));
+        index.index(event(2L, "Champions League", "FOOTBALL", "INACTIVE", 0L));
+
+        assertEquals(List.of(2L, 1L), index.search("champ", null, null, 10));
+        assertEquals(List.of(2L), index.search("champ", null, null, 1));
+    }
+
+    @Test
+    public void shouldNotMatchNamesThatOnlyShareTrigrams() {
+        index.index(event(1L, "abcd bcde", "OTHER", "INACTIVE", 0L));
+
+        assertTrue(index.search("abcde", null, null, 10).isEmpty());
+    }
+
+    @Test
+    public void shouldFilterByStatusAndSportAndFollowStatusChanges() {
+        index.index(event(1L, "Champions League final", "FOOTBALL", "INACTIVE", 0L));
+        index.index(event(2L, "Champions Hockey League", "HOCKEY", "INACTIVE", 0L));
+
+        assertEquals(List.of(2L), index.search("champions", null, HOCKEY, 10));
+        assertTrue(index.search("champions", ACTIVE, null, 10).isEmpty());
+
+        index.index(event(1L, "Champions League final", "FOOTBALL", "ACTIVE", 1L));
+        index.index(event(1L, "Champions League final", "FOOTBALL", "INACTIVE", 0L));
+
+        assertEquals(List.of(1L), index.search("champions", ACTIVE, FOOTBALL, 10));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    public void shouldIndexEventsWithoutName() {
+        index.index(event(1L, null, "FOOTBALL", "INACTIVE", 0L));
+        index.index(event(2L, "Champions League final", "FOOTBALL", "INACTIVE", 0L));
+        index.index(event(1L, null, "FOOTBALL", "ACTIVE", 1L));
+
+        assertEquals(2, index.size());
+        assertEquals(List.of(2L), index.search("final", null, null, 10));
+    }
+
+    @Test
+    public void shouldKeepFindingLiveEventsAfterCompaction() {
+        for (long id = 1; id <= 100; id++) {
+            index.index(event(id, "Final " + id, "FOOTBALL", id % 10 == 0 ? "ACTIVE" : "FINISHED", 0L));
+        }
+        for (long id = 1; id <= 100; id++) {
+            if (id % 10 != 0) {
+                index.remove(id);
+            }
+        }
+        index.index(event(101L, "Final 101", "FOOTBALL", "ACTIVE", 0L));
+        index.index(event(10L, "Final 10", "FOOTBALL", "FINISHED", 1L));
+
+        assertEquals(11, index.size());
+        assertEquals(List.of(10L, 20L, 30L, 40L, 50L, 60L, 70L, 80L, 90L, 100L, 101L), index.search("final", null, null, 20));
+        assertEquals(List.of(10L), index.search("final", FINISHED, null, 20));
+        assertTrue(index.search("final 33", null, null, 20).isEmpty());
+    }
+
+    private static EventDTO event(Long id, String name, String sport, String status, Long version) {
+        return new EventDTO(id, name, sport, status, LocalDateTime.of(2025, 6, 1, 20, 0), version);
+    }
+}
@@ -1,16 +1,22 @@
 package com.entain.sporteventsapi.service;
 
+import com.entain.sporteventsapi.dto.EventBatchResultDTO;
 import com.entain.sporteventsapi.dto.EventDTO;
+import com.entain.sporteventsapi.dto.EventPageDTO;
 import com.entain.sporteventsapi.entity.Event;
 import com.entain.sporteventsapi.entity.EventStatus;
 import com.entain.sporteventsapi.entity.Sport;
+import com.entain.sporteventsapi.repository.EventArchiveRepository;
 import com.entain.sporteventsapi.repository.EventRepository;
+import com.entain.sporteventsapi.repository.JpaEventStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -28,19 +34,30 @@ public class EventServiceTest {
     @Mock
     private EventRepository eventRepository;
 
-    @InjectMocks
+    @Mock
+    private EventArchiveRepository archiveRepository;
+
+    @Spy
+    private EventListingCache listingCache = new EventListingCache();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private EventService eventService;
 
     private Event event;
 
     @BeforeEach
     public void setUp() {
+        JpaEventStore store = new JpaEventStore(eventRepository, archiveRepository, null);
+        eventService = new EventService(store, Optional.of(store), listingCache, null, eventPublisher);
         event = new Event();
         event.setId(1L);
         event.setName("Test Event");
         event.setSport(FOOTBALL);
         event.setEventStatus(INACTIVE);
         event.setStartTime(LocalDateTime.now().plusDays(1));
+        event.setVersion(0L);
     }
 
     @Test
@@ -58,9 +75,25 @@ public class EventServiceTest {
         verify(eventRepository, times(1)).save(any(Event.class));
     }
 
+    @Test
+    public void shouldCreateValidEventsAndReportInvalidOnesInBatch() {
+        EventDTO valid = new EventDTO("Test Event", "FOOTBALL", "INACTIVE", LocalDateTime.now().plusDays(1));
+        EventDTO unknownSport = new EventDTO("Test Event", "CHESS", "INACTIVE", LocalDateTime.now().plusDays(1));
+        EventDTO missingName = new EventDTO(" ", "FOOTBALL", "INACTIVE", LocalDateTime.now().plusDays(1));
+        when(eventRepository.save(any(Event.class))).thenReturn(event);
+
+        EventBatchResultDTO result = eventService.createEvents(List.of(valid, unknownSport, missingName));
+
+        assertEquals(1, result.getCreated().size());
+        assertEquals(2, result.getErrors().size());
+        assertEquals(1, result.getErrors().get(0).getIndex());
+        assertEquals(2, result.getErrors().get(1).getIndex());
+        verify(eventRepository, times(1)).save(any(Event.class));
+    }
+
     @Test
     public void shouldGetEventById() {
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(eventRepository.findDtoById(1L)).thenReturn(Optional.of(new EventDTO(event)));
 
         EventDTO foundEvent = eventService.getEventById(1L);
 
@@ -68,7 +101,19 @@ public class EventServiceTest {
         assertEquals(event.getEventStatus(), EventStatus.valueOf(foundEvent.getEventStatus()));
         assertEquals(event.getSport(), Sport.valueOf(foundEvent.getSport()));
         assertDateTime(event.getStartTime(), foundEvent.getStartTime());
-        verify(eventRepository, times(1)).findById(1L);
+        verify(eventRepository, times(1)).findDtoById(1L);
+    }
+
+    @Test
+    public void shouldFallThroughToArchiveWhenEventIsNotLive() {
+        event.setEventStatus(FINISHED);
+        when(eventRepository.findDtoById(1L)).thenReturn(Optional.empty());
+        when(archiveRepository.findDtoById(1L)).thenReturn(Optional.of(new EventDTO(event)));
+
+        EventDTO foundEvent = eventService.getEventById(1L);
+
+        assertEquals(FINISHED.name(), foundEvent.getEventStatus());
+        verify(archiveRepository, times(1)).findDtoById(1L);
     }
 
     @Test
@@ -80,7 +125,7 @@ public class EventServiceTest {
         event.setEventStatus(ACTIVE);
         event.setStartTime(LocalDateTime.now().plusDays(1));
 
-        when(eventRepository.findByEventStatusAndSport(ACTIVE, BOXING)).thenReturn(List.of(event));
+        when(eventRepository.findDtoByEventStatusAndSport(ACTIVE, BOXING)).thenReturn(List.of(new EventDTO(event)));
 
         List<EventDTO> result = eventService.getEvents(ACTIVE.name(), BOXING.name());
         EventDTO expectedEvent = result.get(0);
@@ -89,12 +134,12 @@ public class EventServiceTest {
         assertEquals(event.getEventStatus(), EventStatus.valueOf(expectedEvent.getEventStatus()));
         assertEquals(event.getSport(), Sport.valueOf(expectedEvent.getSport()));
         assertDateTime(event.getStartTime(), expectedEvent.getStartTime());
-        verify(eventRepository, times(1)).findByEventStatusAndSport(ACTIVE, BOXING);
+        verify(eventRepository, times(1)).findDtoByEventStatusAndSport(ACTIVE, BOXING);
     }
 
     @Test
     public void shouldGetByStatus() {
-        when(eventRepository.findByEventStatus(INACTIVE)).thenReturn(List.of(event));
+        when(eventRepository.findDtoByEventStatus(INACTIVE)).thenReturn(List.of(new EventDTO(event)));
 
         List<EventDTO> result = eventService.getEvents(INACTIVE.name(), null);
         EventDTO expectedEvent = result.get(0);
@@ -103,12 +148,12 @@ public class EventServiceTest {
         assertEquals(event.getEventStatus(), EventStatus.valueOf(expectedEvent.getEventStatus()));
         assertEquals(event.getSport(), Sport.valueOf(expectedEvent.getSport()));
         assertDateTime(event.getStartTime(), expectedEvent.getStartTime());
-        verify(eventRepository, times(1)).findByEventStatus(INACTIVE);
+        verify(eventRepository, times(1)).findDtoByEventStatus(INACTIVE);
     }
 
     @Test
     public void shouldGetBySport() {
-        when(eventRepository.findBySport(HOCKEY)).thenReturn(List.of(event));
+        when(eventRepository.findDtoBySport(HOCKEY)).thenReturn(List.of(new EventDTO(event)));
 
         List<EventDTO> result = eventService.getEvents(null, HOCKEY.name());
         EventDTO expectedEvent = result.get(0);
@@ -117,7 +162,7 @@ public class EventServiceTest {
         assertEquals(event.getEventStatus(), EventStatus.valueOf(expectedEvent.getEventStatus()));
         assertEquals(event.getSport(), Sport.valueOf(expectedEvent.getSport()));
         assertDateTime(event.getStartTime(), expectedEvent.getStartTime());
-        verify(eventRepository, times(1)).findBySport(HOCKEY);
+        verify(eventRepository, times(1)).findDtoBySport(HOCKEY);
     }
 
     @Test
@@ -128,47 +173,108 @@ public class EventServiceTest {
         secondEvent.setSport(BOXING);
         secondEvent.setEventStatus(ACTIVE);
         secondEvent.setStartTime(LocalDateTime.now().plusDays(5));
-        when(eventRepository.findAll()).thenReturn(List.of(event, secondEvent));
+        when(eventRepository.findAllDtos()).thenReturn(List.of(new EventDTO(event), new EventDTO(secondEvent)));
 
         List<EventDTO> result = eventService.getEvents(null, null);
         assertEquals(2, result.size());
-        verify(eventRepository, times(1)).findAll();
+        verify(eventRepository, times(1)).findAllDtos();
+    }
+
+    @Test
+    public void shouldServeRepeatedListingFromCache() {
+        when(eventRepository.findDtoByEventStatus(INACTIVE)).thenReturn(List.of(new EventDTO(event)));
+
+        eventService.getEvents(INACTIVE.name(), null);
+        List<EventDTO> result = eventService.getEvents(INACTIVE.name(), null);
+
+        assertEquals(1, result.size());
+        assertEquals(1, listingCache.stats().hits());
+        assertEquals(1, listingCache.stats().misses());
+        verify(eventRepository, times(1)).findDtoByEventStatus(INACTIVE);
+    }
+
+    @Test
+    public void shouldInvalidateAffectedListingsOnStatusUpdate() {
+        when(eventRepository.findDtoByEventStatus(INACTIVE)).thenReturn(List.of(new EventDTO(event)));
+        when(eventRepository.findDtoBySport(HOCKEY)).thenReturn(List.of());
+        when(eventRepository.findDtoById(1L)).thenReturn(Optional.of(new EventDTO(event)));
+        when(eventRepository.compareAndSetStatus(1L, INACTIVE, 0L, ACTIVE)).thenReturn(1);
+
+        eventService.getEvents(INACTIVE.name(), null);
+        eventService.getEvents(null, HOCKEY.name());
+        eventService.updateEventStatus(1L, "ACTIVE");
+        eventService.getEvents(INACTIVE.name(), null);
+        eventService.getEvents(null, HOCKEY.name());
+
+        verify(eventRepository, times(2)).findDtoByEventStatus(INACTIVE);
+        verify(eventRepository, times(1)).findDtoBySport(HOCKEY);
+    }
+
+    @Test
+    public void shouldReturnNextCursorWhenMoreEventsExist() {
+        Event secondEvent = new Event();
+        secondEvent.setId(2L);
+        secondEvent.setName("Test boxing Event");
+        secondEvent.setSport(BOXING);
+        secondEvent.setEventStatus(ACTIVE);
+        secondEvent.setStartTime(LocalDateTime.now().plusDays(5));
+        when(eventRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2))).thenReturn(List.of(event, secondEvent));
+
+        EventPageDTO page = eventService.getEventsPage(null, null, null, 1);
+
+        assertEquals(1, page.getEvents().size());
+        assertEquals(event.getId(), page.getNextCursor());
+    }
+
+    @Test
+    public void shouldThrowWhenPageLimitOutOfRange() {
+        assertThrows(EventException.class, () -> eventService.getEventsPage(null, null, null, 0));
+        verifyNoInteractions(eventRepository);
     }
 
     @Test
     public void shouldUpdateEventStatus() {
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
-        when(eventRepository.save(any(Event.class))).thenReturn(event);
+        when(eventRepository.findDtoById(1L)).thenReturn(Optional.of(new EventDTO(event)));
+        when(eventRepository.compareAndSetStatus(1L, INACTIVE, 0L, ACTIVE)).thenReturn(1);
 
         EventDTO updatedEvent = eventService.updateEventStatus(1L, "ACTIVE");
 
         assertNotNull(updatedEvent);
         assertEquals(ACTIVE, EventStatus.valueOf(updatedEvent.getEventStatus()));
-        verify(eventRepository, times(1)).findById(1L);
-        verify(eventRepository, times(1)).save(any(Event.class));
+        verify(eventRepository, times(1)).findDtoById(1L);
+        verify(eventRepository, times(1)).compareAndSetStatus(1L, INACTIVE, 0L, ACTIVE);
+        verify(eventRepository, never()).save(any(Event.class));
+        verify(eventPublisher, times(1)).publishEvent(new EventChange(updatedEvent, INACTIVE));
     }
 
     @Test
-    public void shouldThrowWhenIncorrectStatusUpdate() {
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+    public void shouldThrowWhenEventChangedConcurrently() {
+        when(eventRepository.findDtoById(1L)).thenReturn(Optional.of(new EventDTO(event)));
+        when(eventRepository.compareAndSetStatus(1L, INACTIVE, 0L, ACTIVE)).thenReturn(0);
 
+        assertThrows(EventConflictException.class, () -> eventService.updateEventStatus(1L, "ACTIVE"));
+    }
+
+    @Test
+    public void shouldThrowWhenIncorrectStatusUpdate() {
         event.setEventStatus(FINISHED);
+        when(eventRepository.findDtoById(1L)).thenReturn(Optional.of(new EventDTO(event)));
 
         assertThrows(EventException.class, () -> eventService.updateEventStatus(1L, "INACTIVE"));
         assertThrows(EventException.class, () -> eventService.updateEventStatus(1L, "ACTIVE"));
 
-        verify(eventRepository, times(2)).findById(1L);
-        verify(eventRepository, never()).save(any(Event.class));
+        verify(eventRepository, times(2)).findDtoById(1L);
+        verify(eventRepository, never()).compareAndSetStatus(any(), any(), any(), any());
     }
 
     @Test
     public void shouldThrowWhenEventNotFound() {
-        when(eventRepository.findById(1L)).thenReturn(Optional.empty());
+        when(eventRepository.findDtoById(1L)).thenReturn(Optional.empty());
 
         assertThrows(EventNotFoundException.class, () -> eventService.updateEventStatus(1L, "ACTIVE"));
 
-        verify(eventRepository, times(1)).findById(1L);
-        verify(eventRepository, never()).save(any(Event.class));
+        verify(eventRepository, times(1)).findDtoById(1L);
+        verify(eventRepository, never()).compareAndSetStatus(any(), any(), any(), any());
     }
 
     private void assertDateTime(LocalDateTime expected, LocalDateTime actual) {
@@ -0,0 +1,84 @@
+package com.entain.sporteventsapi.service;
+
+import com.entain.sporteventsapi.entity.Event;
+import com.entain.sporteventsapi.entity.Sport;
+import com.entain.sporteventsapi.repository.EventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.entain.sporteventsapi.entity.EventStatus.ACTIVE;
+import static com.entain.sporteventsapi.entity.EventStatus.INACTIVE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class EventStatusConcurrencyIT {
+    private static final int THREADS = 8;
+    private static final int ATTEMPTS_PER_THREAD = 250;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventListingCache listingCache;
+
+    @AfterEach
+    public void cleanUp() {
+        eventRepository.deleteAll();
+        listingCache.invalidateAll();
+    }
+
+    @Test
+    void shouldNotLoseUpdatesUnderContention() throws Exception {
+        Event event = new Event();
+        event.setName("Contended event");
+        event.setSport(Sport.FOOTBALL);
+        event.setEventStatus(INACTIVE);
+        event.setStartTime(LocalDateTime.now().plusDays(1));
+        Long id = eventRepository.save(event).getId();
+
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int attempt = 0; attempt < ATTEMPTS_PER_THREAD; attempt++) {
+                    // ACTIVE <-> INACTIVE is always allowed for a future event, so a failure can only be a conflict
+                    String newStatus = attempt % 2 == 0 ? ACTIVE.name() : INACTIVE.name();
+                    try {
+                        eventService.updateEventStatus(id, newStatus);
+                        successes.incrementAndGet();
+                    } catch (EventConflictException e) {
+                        conflicts.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(THREADS * ATTEMPTS_PER_THREAD, successes.get() + conflicts.get());
+        // Every applied transition bumps the version exactly once, so nothing was overwritten
+        assertEquals(successes.get(), eventRepository.findById(id).orElseThrow().getVersion());
+    }
+}
@@ -0,0 +1,72 @@
+package com.entain.sporteventsapi.service;
+
+import com.entain.sporteventsapi.dto.EventStatusBulkResultDTO;
+import com.entain.sporteventsapi.dto.EventStatusBulkUpdateDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EventStatusWriteBehindTest {
+
+    @Mock
+    private EventService eventService;
+
+    private EventStatusWriteBehind writeBehind;
+
+    @BeforeEach
+    public void setUp() {
+        writeBehind = new EventStatusWriteBehind(eventService, new SimpleMeterRegistry(), 2, 50);
+    }
+
+    @Test
+    public void shouldCoalesceRepeatedUpdatesIntoOneTransition() {
+        when(eventService.updateEventStatuses(any())).thenReturn(new EventStatusBulkResultDTO(List.of(1L), List.of()));
+
+        CompletableFuture<Boolean> first = writeBehind.submit(1L, "ACTIVE");
+        CompletableFuture<Boolean> repeated = writeBehind.submit(1L, "ACTIVE");
+        assertEquals(1, writeBehind.depth());
+        writeBehind.flush();
+
+        assertTrue(first.join());
+        assertTrue(repeated.join());
+        assertEquals(0, writeBehind.depth());
+        verify(eventService, times(1)).updateEventStatuses(any());
+    }
+
+    @Test
+    public void shouldApplyTransitionsOfOneEventInOrder() {
+        when(eventService.updateEventStatuses(any()))
+                .thenReturn(new EventStatusBulkResultDTO(List.of(1L), List.of()))
+                .thenReturn(new EventStatusBulkResultDTO(List.of(), List.of(1L)));
+
+        CompletableFuture<Boolean> activate = writeBehind.submit(1L, "ACTIVE");
+        CompletableFuture<Boolean> finish = writeBehind.submit(1L, "FINISHED");
+        writeBehind.flush();
+
+        ArgumentCaptor<EventStatusBulkUpdateDTO> requests = ArgumentCaptor.forClass(EventStatusBulkUpdateDTO.class);
+        verify(eventService, times(2)).updateEventStatuses(requests.capture());
+        assertEquals(List.of("ACTIVE", "FINISHED"), requests.getAllValues().stream().map(EventStatusBulkUpdateDTO::getNewStatus).toList());
+        assertTrue(activate.join());
+        assertFalse(finish.join());
+    }
+
+    @Test
+    public void shouldRejectUpdatesWhenQueueIsFull() {
+        writeBehind.submit(1L, "ACTIVE");
+        writeBehind.submit(2L, "ACTIVE");
+
+        assertThrows(EventQueueFullException.class, () -> writeBehind.submit(3L, "ACTIVE"));
+        assertDoesNotThrow(() -> writeBehind.submit(2L, "ACTIVE"));
+    }
+}